@@ -0,0 +1,249 @@
+package com.bank.customer.benchmark;
+
+import com.bank.customer.model.AccountDetail;
+import com.bank.customer.model.ConsolidatedSummary;
+import com.bank.customer.model.CreditDetail;
+import com.bank.customer.model.Customer;
+import com.bank.customer.model.CustomerTypeCount;
+import com.bank.customer.model.ProductReportRequest;
+import com.bank.customer.model.ProductReportResponse;
+import com.bank.customer.model.response.AccountResponse;
+import com.bank.customer.model.response.CreditResponse;
+import com.bank.customer.model.response.TransactionResponse;
+import com.bank.customer.model.response.TransactionTotalsResponse;
+import com.bank.customer.service.report.ProductReportAggregator;
+import com.bank.customer.service.report.ReportAssembler;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks de los constructores de reportes sobre datos sintéticos.
+ * Mide el throughput del pliegue y ensamblado del reporte de productos y del
+ * resumen consolidado; la tasa de asignación se obtiene con {@code -prof gc}.
+ * Los datos se generan una sola vez en un conjunto de hasta 10.000 elementos
+ * distintos que se recorre en forma cíclica hasta la escala pedida, de modo que
+ * el heap retenido no crece con la escala.
+ *
+ * <p>Ejecución: {@code mvn -Pbenchmarks -DskipTests test-compile exec:exec}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ReportBuilderBenchmark {
+
+  private static final String[] CUSTOMER_TYPES =
+      {"PERSONAL", "PERSONAL_VIP", "EMPRESARIAL", "EMPRESARIAL_PYME"};
+  private static final String[] ACCOUNT_TYPES = {"AHORRO", "CORRIENTE", "PLAZO_FIJO"};
+  private static final String[] CREDIT_TYPES =
+      {"PRESTAMO_PERSONAL", "PRESTAMO_EMPRESARIAL", "TARJETA_CREDITO"};
+  private static final String[] TRANSACTION_TYPES = {"DEPOSITO", "RETIRO", "PAGO", "CONSUMO"};
+  private static final int POOL_SIZE = 10_000;
+
+  /**
+   * Cantidad de cuentas y créditos generados; los clientes son una décima parte.
+   */
+  @Param({"10000", "100000", "1000000"})
+  private int scale;
+
+  private final ReportAssembler reportAssembler = new ReportAssembler();
+
+  private ProductReportRequest request;
+  private Customer customer;
+  private List<CustomerTypeCount> customerTypeCounts;
+  private List<AccountResponse> accounts;
+  private List<CreditResponse> credits;
+  private List<TransactionResponse> transactions;
+  private TransactionTotalsResponse transactionTotals;
+
+  /**
+   * Genera el conjunto de datos sintéticos para la escala actual.
+   */
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    int customerCount = Math.max(1, scale / 10);
+    int poolSize = Math.min(scale, POOL_SIZE);
+    LocalDateTime now = LocalDateTime.now();
+    OffsetDateTime transactionDate = OffsetDateTime.now();
+
+    request = new ProductReportRequest();
+    request.setStartDate(LocalDate.of(2024, 10, 1));
+    request.setEndDate(LocalDate.of(2024, 10, 31));
+
+    customer = Customer.builder()
+        .id("c0")
+        .documentType("DNI")
+        .documentNumber("00000000")
+        .firstName("Nombre0")
+        .lastName("Apellido0")
+        .email("cliente0@bank.com")
+        .phone("999999999")
+        .customerType(CUSTOMER_TYPES[0])
+        .createdAt(Instant.now())
+        .build();
+    customerTypeCounts = new ArrayList<>(CUSTOMER_TYPES.length);
+    for (int t = 0; t < CUSTOMER_TYPES.length; t++) {
+      long count = (customerCount - t + CUSTOMER_TYPES.length - 1) / CUSTOMER_TYPES.length;
+      customerTypeCounts.add(new CustomerTypeCount(CUSTOMER_TYPES[t], count));
+    }
+
+    List<AccountResponse> accountPool = new ArrayList<>(poolSize);
+    List<CreditResponse> creditPool = new ArrayList<>(poolSize);
+    List<TransactionResponse> transactionPool = new ArrayList<>(poolSize);
+    for (int i = 0; i < poolSize; i++) {
+      String customerId = "c" + random.nextInt(customerCount);
+
+      AccountResponse account = new AccountResponse();
+      account.setId("a" + i);
+      account.setAccountNumber(String.format("ACC%010d", i));
+      account.setAccountType(ACCOUNT_TYPES[i % ACCOUNT_TYPES.length]);
+      account.setCustomerId(customerId);
+      account.setBalance(random.nextDouble(0, 50_000));
+      account.setStatus("ACTIVO");
+      account.setCreatedAt(now);
+      accountPool.add(account);
+
+      CreditResponse credit = new CreditResponse();
+      credit.setId("cr" + i);
+      credit.setCreditNumber(String.format("CRD%010d", i));
+      credit.setCreditType(CREDIT_TYPES[i % CREDIT_TYPES.length]);
+      credit.setCustomerId(customerId);
+      credit.setAmount(random.nextDouble(1_000, 100_000));
+      credit.setOutstandingBalance(random.nextDouble(0, 50_000));
+      credit.setInterestRate(random.nextDouble(5, 40));
+      credit.setCreditLimit(20_000.0);
+      credit.setAvailableCredit(random.nextDouble(0, 20_000));
+      credit.setStatus("ACTIVO");
+      credit.setCreatedAt(now);
+      creditPool.add(credit);
+
+      TransactionResponse transaction = new TransactionResponse();
+      transaction.setId("t" + i);
+      transaction.setTransactionType(TRANSACTION_TYPES[i % TRANSACTION_TYPES.length]);
+      transaction.setAmount(random.nextDouble(1, 5_000));
+      transaction.setTransactionDate(transactionDate);
+      if (i % 2 == 0) {
+        transaction.setAccountId(account.getId());
+      } else {
+        transaction.setCreditId(credit.getId());
+      }
+      transaction.setCustomerId(customerId);
+      transactionPool.add(transaction);
+    }
+    accounts = new CyclicList<>(accountPool, scale);
+    credits = new CyclicList<>(creditPool, scale);
+    transactions = new CyclicList<>(transactionPool, scale);
+
+    // mismas claves que los totales de TransactionServiceClient
+    transactionTotals = new TransactionTotalsResponse();
+    for (TransactionResponse transaction : transactions) {
+      transactionTotals.getCountByType().merge(transaction.getTransactionType(), 1L, Long::sum);
+      transactionTotals.getCountByProduct().merge(
+          transaction.getAccountId() != null ? "ACCOUNT" : "CREDIT", 1L, Long::sum);
+    }
+    transactionTotals.setTotalCount(scale);
+  }
+
+  /**
+   * Pliegue completo de los datos en el acumulador y ensamblado del reporte.
+   *
+   * @return el reporte de productos
+   */
+  @Benchmark
+  public ProductReportResponse productReport() {
+    ProductReportAggregator aggregator = new ProductReportAggregator();
+    customerTypeCounts.forEach(aggregator::acceptCustomerTypeCount);
+    accounts.forEach(aggregator::acceptAccount);
+    credits.forEach(aggregator::acceptCredit);
+    aggregator.acceptTransactionTotals(transactionTotals);
+    return reportAssembler.buildProductReport(request, aggregator);
+  }
+
+  /**
+   * Ensamblado del resumen consolidado con todos los productos generados.
+   *
+   * @return el resumen consolidado
+   */
+  @Benchmark
+  public ConsolidatedSummary consolidatedSummary() {
+    return reportAssembler.buildConsolidatedSummary(customer, accounts, credits, transactions);
+  }
+
+  /**
+   * Cálculo del balance total de cuentas y créditos.
+   *
+   * @return el balance total
+   */
+  @Benchmark
+  public Double totalBalance() {
+    return reportAssembler.calculateTotalBalance(accounts, credits);
+  }
+
+  /**
+   * Mapeo de cuentas a su detalle.
+   *
+   * @return los detalles de cuentas
+   */
+  @Benchmark
+  public List<AccountDetail> accountDetails() {
+    return reportAssembler.mapToAccountDetails(accounts);
+  }
+
+  /**
+   * Mapeo de créditos a su detalle.
+   *
+   * @return los detalles de créditos
+   */
+  @Benchmark
+  public List<CreditDetail> creditDetails() {
+    return reportAssembler.mapToCreditDetails(credits);
+  }
+
+  /**
+   * Lista de solo lectura de {@code size} elementos que repite cíclicamente
+   * los de {@code pool}.
+   */
+  private static final class CyclicList<T> extends AbstractList<T> implements RandomAccess {
+    private final List<T> pool;
+    private final int size;
+
+    private CyclicList(List<T> pool, int size) {
+      this.pool = pool;
+      this.size = size;
+    }
+
+    @Override
+    public T get(int index) {
+      Objects.checkIndex(index, size);
+      return pool.get(index % pool.size());
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+}
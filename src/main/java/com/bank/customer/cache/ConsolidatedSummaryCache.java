@@ -0,0 +1,154 @@
+package com.bank.customer.cache;
+
+import com.bank.customer.model.ConsolidatedSummary;
+import com.bank.customer.model.SectionStatusEnum;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caché de resúmenes consolidados por cliente con stale-while-revalidate.
+ * Dentro de la ventana de frescura se devuelve el valor en caché; una vez
+ * vencida, se sigue devolviendo el valor anterior mientras una única
+ * recarga en segundo plano lo reconstruye. Los resúmenes parciales o
+ * desactualizados, con alguna sección distinta de OK, no se guardan, y
+ * tampoco los de cargas que comenzaron antes de una invalidación.
+ */
+@Slf4j
+@Component
+public class ConsolidatedSummaryCache {
+
+  private final Cache<String, Entry> entries;
+  private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+  private final long freshNanos;
+  private final EvictionStamps evictions;
+
+  /**
+   * Crea la caché con los límites configurados y registra sus métricas.
+   *
+   * @param maxSize cantidad máxima de clientes en caché
+   * @param freshSeconds ventana en la que un resumen se considera fresco
+   * @param maxStaleSeconds edad máxima tras la cual el resumen se recarga en línea
+   * @param meterRegistry registro de métricas de Micrometer
+   */
+  public ConsolidatedSummaryCache(
+      @Value("${customer.summary-cache.max-size:10000}") long maxSize,
+      @Value("${customer.summary-cache.fresh-seconds:30}") long freshSeconds,
+      @Value("${customer.summary-cache.max-stale-seconds:600}") long maxStaleSeconds,
+      MeterRegistry meterRegistry) {
+    this.freshNanos = Duration.ofSeconds(freshSeconds).toNanos();
+    this.entries = Caffeine.newBuilder()
+      .maximumSize(maxSize)
+      .expireAfterWrite(Duration.ofSeconds(maxStaleSeconds))
+      .recordStats()
+      .build();
+    this.evictions = new EvictionStamps(Duration.ofSeconds(maxStaleSeconds));
+
+    CaffeineCacheMetrics.monitor(meterRegistry, entries, "consolidated-summaries");
+  }
+
+  /**
+   * Obtiene el resumen de un cliente, cargándolo o refrescándolo si hace falta.
+   *
+   * @param customerId el ID del cliente
+   * @param loader construye el resumen desde las fuentes
+   * @return Mono con el resumen en caché o recién construido
+   */
+  public Mono<ConsolidatedSummary> get(String customerId,
+                                       Supplier<Mono<ConsolidatedSummary>> loader) {
+    return Mono.defer(() -> {
+      Entry entry = entries.getIfPresent(customerId);
+      if (entry == null) {
+        return load(customerId, loader);
+      }
+      if (System.nanoTime() - entry.loadedAt > freshNanos) {
+        refreshInBackground(customerId, loader);
+      }
+      return Mono.just(entry.summary);
+    });
+  }
+
+  /**
+   * Devuelve el resumen en caché de un cliente solo si todavía está fresco.
+   * No dispara cargas ni refrescos.
+   *
+   * @param customerId el ID del cliente
+   * @return el resumen fresco, si existe
+   */
+  public Optional<ConsolidatedSummary> getIfFresh(String customerId) {
+    Entry entry = entries.getIfPresent(customerId);
+    if (entry == null || System.nanoTime() - entry.loadedAt > freshNanos) {
+      return Optional.empty();
+    }
+    return Optional.of(entry.summary);
+  }
+
+  /**
+   * Invalida el resumen de un cliente y descarta las cargas y recargas en curso.
+   *
+   * @param customerId el ID del cliente
+   */
+  public void evict(String customerId) {
+    entries.asMap().compute(customerId, (key, current) -> {
+      evictions.evicted(key);
+      return null;
+    });
+  }
+
+  private Mono<ConsolidatedSummary> load(String customerId,
+                                         Supplier<Mono<ConsolidatedSummary>> loader) {
+    return Mono.defer(() -> {
+      long stamp = evictions.current();
+      return loader.get()
+        .doOnNext(summary -> {
+          if (isComplete(summary)) {
+            entries.asMap().compute(customerId, (key, current) ->
+                evictions.evictedSince(key, stamp)
+                  ? current
+                  : new Entry(summary, System.nanoTime()));
+          }
+        });
+    });
+  }
+
+  private boolean isComplete(ConsolidatedSummary summary) {
+    return Stream.of(summary.getAccountsStatus(), summary.getCreditsStatus(),
+        summary.getTransactionsStatus())
+      .allMatch(status -> status == null || status == SectionStatusEnum.OK);
+  }
+
+  private void refreshInBackground(String customerId,
+                                   Supplier<Mono<ConsolidatedSummary>> loader) {
+    if (!refreshing.add(customerId)) {
+      return;
+    }
+    log.debug("Refreshing stale consolidated summary for customer: {}", customerId);
+    load(customerId, loader)
+      .doFinally(signal -> refreshing.remove(customerId))
+      .subscribe(
+        summary -> { },
+        ex -> log.error("Error refreshing consolidated summary for customer {}: {}",
+          customerId, ex.getMessage()));
+  }
+
+  private static final class Entry {
+    private final ConsolidatedSummary summary;
+    private final long loadedAt;
+
+    private Entry(ConsolidatedSummary summary, long loadedAt) {
+      this.summary = summary;
+      this.loadedAt = loadedAt;
+    }
+  }
+}
@@ -0,0 +1,143 @@
+package com.bank.customer.cache;
+
+import com.bank.customer.model.Customer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caché en memoria de clientes, acotada por tamaño y por tiempo de vida.
+ * Indexa los clientes por ID y mantiene un índice secundario de número de
+ * documento a ID. Publica métricas de aciertos, fallos y desalojos.
+ *
+ * <p>Las lecturas de la base toman una marca con {@link #evictionStamp()} antes
+ * de consultar y guardan con {@link #putIfNotEvictedSince(Customer, long)}, de
+ * modo que una lectura concurrente con una actualización no deja en caché el
+ * documento anterior.
+ */
+@Slf4j
+@Component
+public class CustomerCache {
+
+  private final Cache<String, Customer> byId;
+  private final Cache<String, String> idByDocument;
+  private final EvictionStamps evictions;
+
+  /**
+   * Crea la caché con los límites configurados y registra sus métricas.
+   *
+   * @param maxSize cantidad máxima de clientes en caché
+   * @param ttlSeconds tiempo de vida de cada entrada en segundos
+   * @param meterRegistry registro de métricas de Micrometer
+   */
+  public CustomerCache(@Value("${customer.cache.max-size:10000}") long maxSize,
+                       @Value("${customer.cache.ttl-seconds:300}") long ttlSeconds,
+                       MeterRegistry meterRegistry) {
+    this.byId = Caffeine.newBuilder()
+      .maximumSize(maxSize)
+      .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+      .recordStats()
+      .build();
+    this.idByDocument = Caffeine.newBuilder()
+      .maximumSize(maxSize)
+      .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+      .recordStats()
+      .build();
+    this.evictions = new EvictionStamps(Duration.ofSeconds(ttlSeconds));
+
+    CaffeineCacheMetrics.monitor(meterRegistry, byId, "customers.by-id");
+    CaffeineCacheMetrics.monitor(meterRegistry, idByDocument, "customers.by-document");
+    log.info("Customer cache initialized with maxSize={} ttlSeconds={}", maxSize, ttlSeconds);
+  }
+
+  /**
+   * Busca un cliente en caché por su ID.
+   *
+   * @param id el ID del cliente
+   * @return el cliente en caché, si existe
+   */
+  public Optional<Customer> getById(String id) {
+    return Optional.ofNullable(byId.getIfPresent(id));
+  }
+
+  /**
+   * Busca un cliente en caché por número de documento.
+   * La entrada se descarta si el cliente cambió de documento desde que se indexó.
+   *
+   * @param documentNumber el número de documento del cliente
+   * @return el cliente en caché, si existe
+   */
+  public Optional<Customer> getByDocumentNumber(String documentNumber) {
+    String id = idByDocument.getIfPresent(documentNumber);
+    if (id == null) {
+      return Optional.empty();
+    }
+    Customer customer = byId.getIfPresent(id);
+    if (customer == null || !documentNumber.equals(customer.getDocumentNumber())) {
+      idByDocument.invalidate(documentNumber);
+      return Optional.empty();
+    }
+    return Optional.of(customer);
+  }
+
+  /**
+   * Guarda un cliente en caché bajo su ID y su número de documento.
+   *
+   * @param customer el cliente recién escrito en la base de datos
+   */
+  public void put(Customer customer) {
+    putIfNotEvictedSince(customer, Long.MAX_VALUE);
+  }
+
+  /**
+   * Devuelve la marca a tomar antes de leer un cliente de la base de datos.
+   *
+   * @return la marca de invalidación actual
+   */
+  public long evictionStamp() {
+    return evictions.current();
+  }
+
+  /**
+   * Guarda un cliente leído de la base de datos, salvo que se haya invalidado
+   * después de tomar la marca.
+   *
+   * @param customer el cliente leído de la base de datos
+   * @param stamp la marca tomada antes de la lectura
+   */
+  public void putIfNotEvictedSince(Customer customer, long stamp) {
+    if (customer.getId() == null) {
+      return;
+    }
+    byId.asMap().compute(customer.getId(), (id, current) -> {
+      if (evictions.evictedSince(id, stamp)) {
+        return current;
+      }
+      if (customer.getDocumentNumber() != null) {
+        idByDocument.put(customer.getDocumentNumber(), id);
+      }
+      return customer;
+    });
+  }
+
+  /**
+   * Invalida las entradas de un cliente y descarta las lecturas en curso.
+   *
+   * @param id el ID del cliente
+   */
+  public void evict(String id) {
+    byId.asMap().compute(id, (key, cached) -> {
+      evictions.evicted(key);
+      if (cached != null && cached.getDocumentNumber() != null) {
+        idByDocument.invalidate(cached.getDocumentNumber());
+      }
+      return null;
+    });
+  }
+}
@@ -0,0 +1,37 @@
+package com.bank.customer.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Marcas de invalidación por clave. Una carga toma la marca actual antes de
+ * leer la fuente y solo guarda su resultado si la clave no se invalidó desde
+ * entonces, para que una lectura anterior a una escritura no vuelva a poblar
+ * la caché con el valor viejo. Las marcas se retienen tanto como las entradas.
+ */
+final class EvictionStamps {
+
+  private final AtomicLong counter = new AtomicLong();
+  private final Cache<String, Long> evictedAt;
+
+  EvictionStamps(Duration retention) {
+    this.evictedAt = Caffeine.newBuilder()
+      .expireAfterWrite(retention)
+      .build();
+  }
+
+  long current() {
+    return counter.get();
+  }
+
+  void evicted(String key) {
+    evictedAt.put(key, counter.incrementAndGet());
+  }
+
+  boolean evictedSince(String key, long stamp) {
+    Long at = evictedAt.getIfPresent(key);
+    return at != null && at > stamp;
+  }
+}
@@ -0,0 +1,63 @@
+package com.bank.customer.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caché de la última respuesta correcta de cada servicio externo por cliente.
+ * Sirve de respaldo cuando el circuito de un servicio destino está abierto;
+ * los datos devueltos desde aquí deben marcarse como desactualizados.
+ */
+@Component
+public class LastKnownGoodCache {
+
+  private final Cache<String, List<?>> responses;
+
+  /**
+   * Crea la caché con los límites configurados y registra sus métricas.
+   *
+   * @param maxSize cantidad máxima de respuestas en caché
+   * @param ttlSeconds tiempo máximo que una respuesta sirve de respaldo
+   * @param meterRegistry registro de métricas de Micrometer
+   */
+  public LastKnownGoodCache(@Value("${customer.last-known-good.max-size:10000}") long maxSize,
+                            @Value("${customer.last-known-good.ttl-seconds:3600}") long ttlSeconds,
+                            MeterRegistry meterRegistry) {
+    this.responses = Caffeine.newBuilder()
+      .maximumSize(maxSize)
+      .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+      .recordStats()
+      .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, responses, "last-known-good");
+  }
+
+  /**
+   * Guarda la última respuesta correcta.
+   *
+   * @param key la sección y el cliente de la respuesta
+   * @param items los elementos recibidos
+   */
+  public void put(String key, List<?> items) {
+    responses.put(key, items);
+  }
+
+  /**
+   * Obtiene la última respuesta correcta.
+   *
+   * @param key la sección y el cliente de la respuesta
+   * @param <T> el tipo de los elementos
+   * @return los elementos guardados, si existen
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Optional<List<T>> get(String key) {
+    return Optional.ofNullable((List<T>) responses.getIfPresent(key));
+  }
+}
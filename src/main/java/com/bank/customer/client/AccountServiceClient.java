@@ -1,7 +1,11 @@
 package com.bank.customer.client;
 
+import static com.bank.customer.metrics.ReactiveMetrics.CLIENT_TIMER;
+
+import com.bank.customer.metrics.ReactiveMetrics;
 import com.bank.customer.model.AccountSummary;
 import com.bank.customer.model.response.AccountResponse;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -19,7 +23,13 @@ import reactor.core.publisher.Flux;
 @RequiredArgsConstructor
 public class AccountServiceClient {
 
+  private static final String DOWNSTREAM = "account";
+
   private final WebClient webClient;
+  private final SingleFlight singleFlight;
+  private final ReactiveMetrics reactiveMetrics;
+  private final RequestHedger requestHedger;
+  private final DownstreamGuard downstreamGuard;
 
   @Value("${external.services.account.url:http://localhost:8082}")
   private String accountServiceUrl;
@@ -28,38 +38,42 @@ public class AccountServiceClient {
    * Obtiene las cuentas del cliente con balances diarios.
    *
    * @param customerId el ID del cliente
-   * @return Flux de AccountSummary con balances diarios
+   * @return Flux de AccountSummary con balances diarios, o error si la llamada falla
    */
   public Flux<AccountSummary> getCustomerAccountsWithDailyBalances(String customerId) {
     log.info("Getting accounts with daily balances for customer: {}", customerId);
 
-    return webClient.get()
-      .uri(accountServiceUrl + "/accounts/customer/{customerId}/daily-balances", customerId)
-      .retrieve()
-      .bodyToFlux(new ParameterizedTypeReference<AccountSummary>() {})
-      .doOnError(ex -> {
-        log.error("Error fetching accounts for customer {}: {}", customerId, ex.getMessage());
-      })
-      .onErrorResume(ex -> Flux.empty());
+    return singleFlight.flux("accounts:daily-balances:" + customerId, () -> webClient.get()
+        .uri(accountServiceUrl + "/accounts/customer/{customerId}/daily-balances", customerId)
+        .retrieve()
+        .bodyToFlux(new ParameterizedTypeReference<AccountSummary>() {})
+        .transform(timedFlux("getCustomerAccountsWithDailyBalances"))
+        .transform(guardedFlux())
+        .transform(hedged("getCustomerAccountsWithDailyBalances"))
+        .doOnError(ex -> {
+          log.error("Error fetching accounts for customer {}: {}", customerId, ex.getMessage());
+        }));
   }
 
   /**
    * Obtiene todas las cuentas de un cliente específico.
    *
    * @param customerId el ID del cliente
-   * @return Flux de AccountResponse
+   * @return Flux de AccountResponse, o error si la llamada falla
    */
   public Flux<AccountResponse> getCustomerAccounts(String customerId) {
     log.info("Getting accounts for customer: {}", customerId);
 
-    return webClient.get()
-      .uri(accountServiceUrl + "/accounts/customer/{customerId}", customerId)
-      .retrieve()
-      .bodyToFlux(new ParameterizedTypeReference<AccountResponse>() {})
-      .doOnError(ex -> {
-        log.error("Error fetching accounts for customer {}: {}", customerId, ex.getMessage());
-      })
-      .onErrorResume(ex -> Flux.empty());
+    return singleFlight.flux("accounts:customer:" + customerId, () -> webClient.get()
+        .uri(accountServiceUrl + "/accounts/customer/{customerId}", customerId)
+        .retrieve()
+        .bodyToFlux(new ParameterizedTypeReference<AccountResponse>() {})
+        .transform(timedFlux("getCustomerAccounts"))
+        .transform(guardedFlux())
+        .transform(hedged("getCustomerAccounts"))
+        .doOnError(ex -> {
+          log.error("Error fetching accounts for customer {}: {}", customerId, ex.getMessage());
+        }));
   }
 
   /**
@@ -70,13 +84,31 @@ public class AccountServiceClient {
   public Flux<AccountResponse> getAllAccounts() {
     log.info("Getting all accounts");
 
-    return webClient.get()
-      .uri(accountServiceUrl + "/accounts")
-      .retrieve()
-      .bodyToFlux(new ParameterizedTypeReference<AccountResponse>() {})
-      .doOnError(ex -> {
-        log.error("Error fetching all accounts: {}", ex.getMessage());
-      })
-      .onErrorResume(ex -> Flux.empty());
+    return singleFlight.flux("accounts:all", () -> webClient.get()
+        .uri(accountServiceUrl + "/accounts")
+        .retrieve()
+        .bodyToFlux(new ParameterizedTypeReference<AccountResponse>() {})
+        .transform(timedFlux("getAllAccounts"))
+        .transform(bulkGuardedFlux())
+        .doOnError(ex -> {
+          log.error("Error fetching all accounts: {}", ex.getMessage());
+        })
+        .onErrorResume(ex -> Flux.empty()));
+  }
+
+  private <T> Function<Flux<T>, Flux<T>> timedFlux(String method) {
+    return reactiveMetrics.fluxTimer(CLIENT_TIMER, "downstream", DOWNSTREAM, "method", method);
+  }
+
+  private <T> Function<Flux<T>, Flux<T>> hedged(String method) {
+    return requestHedger.hedger(DOWNSTREAM, method);
+  }
+
+  private <T> Function<Flux<T>, Flux<T>> guardedFlux() {
+    return downstreamGuard.fluxGuard(DOWNSTREAM);
+  }
+
+  private <T> Function<Flux<T>, Flux<T>> bulkGuardedFlux() {
+    return downstreamGuard.bulkFluxGuard(DOWNSTREAM);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,215 @@
+package com.bank.customer.client;
+
+import com.bank.customer.exception.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Límite de concurrencia adaptativo por servicio destino (AIMD guiado por RTT).
+ * Mide el tiempo hasta la primera respuesta de cada llamada y lo compara con el
+ * menor RTT observado: mientras la latencia se mantiene cerca de ese mínimo y el
+ * límite se está usando, el límite crece de a uno; si la latencia se dispara o
+ * el servicio falla o la llamada se cancela por lenta (por ejemplo, al vencer
+ * el presupuesto de quien llama), el límite se reduce de forma multiplicativa. Las llamadas
+ * que superan el límite se rechazan de inmediato. Solo se aplica a consultas
+ * por cliente; las lecturas masivas se limitan con su propio bulkhead.
+ *
+ * <p>Publica el límite y las llamadas en curso como gauges
+ * ({@code customer.downstream.concurrency.limit} y
+ * {@code customer.downstream.concurrency.in-flight}).
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+  public static final String LIMIT_GAUGE = "customer.downstream.concurrency.limit";
+  public static final String IN_FLIGHT_GAUGE = "customer.downstream.concurrency.in-flight";
+  public static final String REJECTED_COUNTER = "customer.downstream.concurrency.rejected";
+
+  private static final int MIN_RTT_RESET_SAMPLES = 1000;
+
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+  private final int initialLimit;
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final double rttTolerance;
+  private final Map<String, Limit> limits = new ConcurrentHashMap<>();
+
+  /**
+   * Crea el limitador con los parámetros configurados.
+   *
+   * @param enabled si el límite adaptativo está activo
+   * @param initialLimit límite inicial de llamadas concurrentes
+   * @param minLimit límite mínimo
+   * @param maxLimit límite máximo
+   * @param backoffRatio factor de reducción ante congestión o fallas
+   * @param rttTolerance múltiplo del RTT mínimo a partir del cual hay congestión
+   * @param meterRegistry registro de métricas de Micrometer
+   */
+  public AdaptiveConcurrencyLimiter(
+      @Value("${external.adaptive-limit.enabled:true}") boolean enabled,
+      @Value("${external.adaptive-limit.initial-limit:20}") int initialLimit,
+      @Value("${external.adaptive-limit.min-limit:5}") int minLimit,
+      @Value("${external.adaptive-limit.max-limit:200}") int maxLimit,
+      @Value("${external.adaptive-limit.backoff-ratio:0.9}") double backoffRatio,
+      @Value("${external.adaptive-limit.rtt-tolerance:2.0}") double rttTolerance,
+      MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.initialLimit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.backoffRatio = backoffRatio;
+    this.rttTolerance = rttTolerance;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Aplica el límite de concurrencia del servicio destino a un Flux.
+   *
+   * @param source la llamada a limitar
+   * @param downstream nombre del servicio destino
+   * @param <T> el tipo emitido
+   * @return la llamada limitada
+   */
+  public <T> Flux<T> limit(Flux<T> source, String downstream) {
+    if (!enabled) {
+      return source;
+    }
+    return Flux.defer(() -> {
+      Limit limit = limitFor(downstream);
+      int inFlight = limit.tryAcquire();
+      if (inFlight < 0) {
+        meterRegistry.counter(REJECTED_COUNTER, "downstream", downstream).increment();
+        return Flux.error(new ConcurrencyLimitExceededException(
+          "Concurrency limit reached for downstream " + downstream));
+      }
+
+      long start = System.nanoTime();
+      AtomicBoolean sampled = new AtomicBoolean();
+      return source
+        .doOnEach(signal -> {
+          if ((signal.isOnNext() || signal.isOnComplete()) && sampled.compareAndSet(false, true)) {
+            limit.onSample(System.nanoTime() - start, inFlight);
+          } else if (signal.isOnError() && sampled.compareAndSet(false, true)
+              && !isClientError(signal.getThrowable())) {
+            limit.onDrop();
+          }
+        })
+        .doFinally(signal -> {
+          // un plazo vencido en quien llama llega como cancelación, no como error
+          if (signal == SignalType.CANCEL && sampled.compareAndSet(false, true)) {
+            limit.onCancel(System.nanoTime() - start);
+          }
+          limit.release();
+        });
+    });
+  }
+
+  /**
+   * Aplica el límite de concurrencia del servicio destino a un Mono.
+   *
+   * @param source la llamada a limitar
+   * @param downstream nombre del servicio destino
+   * @param <T> el tipo emitido
+   * @return la llamada limitada
+   */
+  public <T> Mono<T> limit(Mono<T> source, String downstream) {
+    return limit(source.flux(), downstream).next();
+  }
+
+  /**
+   * Límite actual de un servicio destino.
+   *
+   * @param downstream nombre del servicio destino
+   * @return el límite de llamadas concurrentes
+   */
+  public int currentLimit(String downstream) {
+    return (int) limitFor(downstream).limit;
+  }
+
+  private Limit limitFor(String downstream) {
+    return limits.computeIfAbsent(downstream, key -> {
+      Limit limit = new Limit(initialLimit);
+      Gauge.builder(LIMIT_GAUGE, limit, value -> value.limit)
+        .tag("downstream", key)
+        .register(meterRegistry);
+      Gauge.builder(IN_FLIGHT_GAUGE, limit, value -> value.inFlight)
+        .tag("downstream", key)
+        .register(meterRegistry);
+      return limit;
+    });
+  }
+
+  private boolean isClientError(Throwable ex) {
+    return ex instanceof WebClientResponseException
+      && ((WebClientResponseException) ex).getStatusCode().is4xxClientError();
+  }
+
+  /**
+   * Estado del límite de un servicio destino.
+   */
+  private final class Limit {
+    private volatile double limit;
+    private volatile int inFlight;
+    private long minRttNanos = Long.MAX_VALUE;
+    private int samples;
+
+    private Limit(double limit) {
+      this.limit = limit;
+    }
+
+    /**
+     * Reserva un lugar si hay capacidad.
+     *
+     * @return las llamadas en curso al reservar, o -1 si se alcanzó el límite
+     */
+    private synchronized int tryAcquire() {
+      if (inFlight >= (int) limit) {
+        return -1;
+      }
+      return ++inFlight;
+    }
+
+    private synchronized void release() {
+      inFlight--;
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtStart) {
+      if (++samples >= MIN_RTT_RESET_SAMPLES) {
+        samples = 0;
+        minRttNanos = rttNanos;
+      }
+      minRttNanos = Math.min(minRttNanos, rttNanos);
+
+      if (rttNanos > minRttNanos * rttTolerance) {
+        limit = Math.max(minLimit, limit * backoffRatio);
+      } else if (inFlightAtStart * 2 >= limit) {
+        limit = Math.min(maxLimit, limit + 1);
+      }
+    }
+
+    private synchronized void onDrop() {
+      limit = Math.max(minLimit, limit * backoffRatio);
+    }
+
+    /**
+     * Registra una llamada cancelada antes de su primera respuesta. Cuenta como
+     * congestión si ya superaba la latencia tolerada o si aún no hay RTT mínimo.
+     */
+    private synchronized void onCancel(long elapsedNanos) {
+      if (minRttNanos == Long.MAX_VALUE || elapsedNanos > minRttNanos * rttTolerance) {
+        onDrop();
+      }
+    }
+  }
+}
@@ -1,7 +1,11 @@
 package com.bank.customer.client;
 
+import static com.bank.customer.metrics.ReactiveMetrics.CLIENT_TIMER;
+
+import com.bank.customer.metrics.ReactiveMetrics;
 import com.bank.customer.model.CreditSummary;
 import com.bank.customer.model.response.CreditResponse;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -19,7 +23,13 @@ import reactor.core.publisher.Flux;
 @RequiredArgsConstructor
 public class CreditServiceClient {
 
+  private static final String DOWNSTREAM = "credit";
+
   private final WebClient webClient;
+  private final SingleFlight singleFlight;
+  private final ReactiveMetrics reactiveMetrics;
+  private final RequestHedger requestHedger;
+  private final DownstreamGuard downstreamGuard;
 
   @Value("${external.services.credit.url:http://localhost:8083}")
   private String creditServiceUrl;
@@ -28,38 +38,42 @@ public class CreditServiceClient {
    * Obtiene los créditos del cliente con balances diarios.
    *
    * @param customerId el ID del cliente
-   * @return Flux de CreditSummary con balances diarios
+   * @return Flux de CreditSummary con balances diarios, o error si la llamada falla
    */
   public Flux<CreditSummary> getCustomerCreditsWithDailyBalances(String customerId) {
     log.info("Getting credits with daily balances for customer: {}", customerId);
 
-    return webClient.get()
-      .uri(creditServiceUrl + "/credits/customer/{customerId}/daily-balances", customerId)
-      .retrieve()
-      .bodyToFlux(new ParameterizedTypeReference<CreditSummary>() {})
-      .doOnError(ex -> {
-        log.error("Error fetching credits for customer {}: {}", customerId, ex.getMessage());
-      })
-      .onErrorResume(ex -> Flux.empty());
+    return singleFlight.flux("credits:daily-balances:" + customerId, () -> webClient.get()
+        .uri(creditServiceUrl + "/credits/customer/{customerId}/daily-balances", customerId)
+        .retrieve()
+        .bodyToFlux(new ParameterizedTypeReference<CreditSummary>() {})
+        .transform(timedFlux("getCustomerCreditsWithDailyBalances"))
+        .transform(guardedFlux())
+        .transform(hedged("getCustomerCreditsWithDailyBalances"))
+        .doOnError(ex -> {
+          log.error("Error fetching credits for customer {}: {}", customerId, ex.getMessage());
+        }));
   }
 
   /**
    * Obtiene todos los créditos de un cliente específico.
    *
    * @param customerId el ID del cliente
-   * @return Flux de CreditResponse
+   * @return Flux de CreditResponse, o error si la llamada falla
    */
   public Flux<CreditResponse> getCustomerCredits(String customerId) {
     log.info("Getting credits for customer: {}", customerId);
 
-    return webClient.get()
-      .uri(creditServiceUrl + "/credits/customer/{customerId}", customerId)
-      .retrieve()
-      .bodyToFlux(new ParameterizedTypeReference<CreditResponse>() {})
-      .doOnError(ex -> {
-        log.error("Error fetching credits for customer {}: {}", customerId, ex.getMessage());
-      })
-      .onErrorResume(ex -> Flux.empty());
+    return singleFlight.flux("credits:customer:" + customerId, () -> webClient.get()
+        .uri(creditServiceUrl + "/credits/customer/{customerId}", customerId)
+        .retrieve()
+        .bodyToFlux(new ParameterizedTypeReference<CreditResponse>() {})
+        .transform(timedFlux("getCustomerCredits"))
+        .transform(guardedFlux())
+        .transform(hedged("getCustomerCredits"))
+        .doOnError(ex -> {
+          log.error("Error fetching credits for customer {}: {}", customerId, ex.getMessage());
+        }));
   }
 
   /**
@@ -70,13 +84,31 @@ public class CreditServiceClient {
   public Flux<CreditResponse> getAllCredits() {
     log.info("Getting all credits");
 
-    return webClient.get()
-      .uri(creditServiceUrl + "/credits")
-      .retrieve()
-      .bodyToFlux(new ParameterizedTypeReference<CreditResponse>() {})
-      .doOnError(ex -> {
-        log.error("Error fetching all credits: {}", ex.getMessage());
-      })
-      .onErrorResume(ex -> Flux.empty());
+    return singleFlight.flux("credits:all", () -> webClient.get()
+        .uri(creditServiceUrl + "/credits")
+        .retrieve()
+        .bodyToFlux(new ParameterizedTypeReference<CreditResponse>() {})
+        .transform(timedFlux("getAllCredits"))
+        .transform(bulkGuardedFlux())
+        .doOnError(ex -> {
+          log.error("Error fetching all credits: {}", ex.getMessage());
+        })
+        .onErrorResume(ex -> Flux.empty()));
+  }
+
+  private <T> Function<Flux<T>, Flux<T>> timedFlux(String method) {
+    return reactiveMetrics.fluxTimer(CLIENT_TIMER, "downstream", DOWNSTREAM, "method", method);
+  }
+
+  private <T> Function<Flux<T>, Flux<T>> hedged(String method) {
+    return requestHedger.hedger(DOWNSTREAM, method);
+  }
+
+  private <T> Function<Flux<T>, Flux<T>> guardedFlux() {
+    return downstreamGuard.fluxGuard(DOWNSTREAM);
+  }
+
+  private <T> Function<Flux<T>, Flux<T>> bulkGuardedFlux() {
+    return downstreamGuard.bulkFluxGuard(DOWNSTREAM);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,125 @@
+package com.bank.customer.client;
+
+import com.bank.customer.config.ResilienceConfig;
+import com.bank.customer.config.ResilienceProperties;
+import com.bank.customer.exception.ConcurrencyLimitExceededException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Protección de las llamadas a servicios externos con circuit breaker, bulkhead
+ * y límite de concurrencia adaptativo. Cada servicio destino tiene su propio
+ * circuito y sus propios límites; con el circuito abierto o sin capacidad la
+ * llamada se rechaza de inmediato, sin abrir conexiones.
+ *
+ * <p>Cada llamada tiene su propio tiempo máximo dentro del circuito, menor que
+ * el presupuesto de quien llama: un servicio lento se registra como falla y
+ * abre el circuito, en lugar de terminar en una cancelación que el circuito
+ * no cuenta.
+ *
+ * <p>Las lecturas masivas (listados completos para reportes) tardan segundos
+ * por diseño, por lo que usan un circuito y un bulkhead propios por servicio
+ * destino: su lentitud no abre el circuito de las consultas por cliente.
+ */
+@Component
+@RequiredArgsConstructor
+public class DownstreamGuard {
+
+  public static final String BULK_SUFFIX = "-bulk";
+
+  private final CircuitBreakerRegistry circuitBreakerRegistry;
+  private final BulkheadRegistry bulkheadRegistry;
+  private final ResilienceProperties properties;
+  private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+  /**
+   * Transformador que protege un Flux con {@code transform}.
+   *
+   * @param downstream nombre del servicio destino
+   * @param <T> el tipo emitido
+   * @return función que protege el Flux
+   */
+  public <T> Function<Flux<T>, Flux<T>> fluxGuard(String downstream) {
+    CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(downstream);
+    Bulkhead bulkhead = bulkhead(downstream);
+    return source -> concurrencyLimiter.limit(source.timeout(properties.getCallTimeout()),
+        downstream)
+      .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+      .transformDeferred(BulkheadOperator.of(bulkhead));
+  }
+
+  /**
+   * Transformador que protege una lectura masiva con {@code transform}.
+   * Usa el circuito y el bulkhead de lecturas masivas del servicio destino y
+   * no pasa por el límite adaptativo: su tiempo de respuesta no es comparable
+   * con el de las consultas por cliente y distorsionaría el RTT mínimo.
+   *
+   * @param downstream nombre del servicio destino
+   * @param <T> el tipo emitido
+   * @return función que protege el Flux
+   */
+  public <T> Function<Flux<T>, Flux<T>> bulkFluxGuard(String downstream) {
+    String name = downstream + BULK_SUFFIX;
+    CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name,
+        circuitBreakerRegistry.getConfiguration(ResilienceConfig.BULK_CONFIG)
+          .orElseGet(circuitBreakerRegistry::getDefaultConfig));
+    Bulkhead bulkhead = bulkheadRegistry.bulkhead(name, BulkheadConfig
+        .from(bulkheadRegistry.getDefaultConfig())
+        .maxConcurrentCalls(properties.getBulkMaxConcurrentCalls())
+        .build());
+    return source -> source
+      .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+      .transformDeferred(BulkheadOperator.of(bulkhead));
+  }
+
+  /**
+   * Transformador que protege un Mono con {@code transform}.
+   *
+   * @param downstream nombre del servicio destino
+   * @param <T> el tipo emitido
+   * @return función que protege el Mono
+   */
+  public <T> Function<Mono<T>, Mono<T>> monoGuard(String downstream) {
+    CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(downstream);
+    Bulkhead bulkhead = bulkhead(downstream);
+    return source -> concurrencyLimiter.limit(source.timeout(properties.getCallTimeout()),
+        downstream)
+      .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+      .transformDeferred(BulkheadOperator.of(bulkhead));
+  }
+
+  /**
+   * Indica si la llamada fue rechazada sin llegar al servicio destino.
+   *
+   * @param ex el error de la llamada
+   * @return true si el circuito estaba abierto o no había capacidad
+   */
+  public static boolean isRejected(Throwable ex) {
+    return ex instanceof CallNotPermittedException
+      || ex instanceof BulkheadFullException
+      || ex instanceof ConcurrencyLimitExceededException;
+  }
+
+  private Bulkhead bulkhead(String downstream) {
+    Integer maxConcurrentCalls = properties.getDownstreamMaxConcurrentCalls().get(downstream);
+    if (maxConcurrentCalls == null) {
+      return bulkheadRegistry.bulkhead(downstream);
+    }
+    return bulkheadRegistry.bulkhead(downstream, BulkheadConfig
+      .from(bulkheadRegistry.getDefaultConfig())
+      .maxConcurrentCalls(maxConcurrentCalls)
+      .build());
+  }
+}
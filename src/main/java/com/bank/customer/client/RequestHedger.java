@@ -0,0 +1,186 @@
+package com.bank.customer.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Envío de peticiones de respaldo (hedging) para lecturas a servicios externos.
+ * Si la petición original no responde antes del percentil configurado de su
+ * latencia reciente, se lanza una segunda petición idéntica y se usa la que
+ * responda primero; la otra se cancela.
+ *
+ * <p>Las peticiones de respaldo consumen un presupuesto: cada petición original
+ * aporta una fracción de ficha y cada respaldo gasta una ficha completa, de modo
+ * que la carga extra queda acotada a esa fracción del tráfico.
+ */
+@Component
+public class RequestHedger {
+
+  public static final String HEDGE_COUNTER = "customer.downstream.hedges";
+
+  private static final int WINDOW_SIZE = 256;
+  private static final int MIN_SAMPLES = 20;
+  private static final double MAX_TOKENS = 10.0;
+
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+  private final double percentile;
+  private final Duration minDelay;
+  private final double budgetRatio;
+  private final Map<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+  private double tokens;
+
+  /**
+   * Crea el componente con la política configurada.
+   *
+   * @param enabled si el hedging está activo
+   * @param percentile percentil de latencia tras el cual se lanza el respaldo
+   * @param minDelayMs retardo mínimo antes de lanzar un respaldo
+   * @param budgetRatio fracción máxima de peticiones extra sobre las originales
+   * @param meterRegistry registro de métricas de Micrometer
+   */
+  public RequestHedger(@Value("${external.hedging.enabled:false}") boolean enabled,
+                       @Value("${external.hedging.percentile:0.95}") double percentile,
+                       @Value("${external.hedging.min-delay-ms:20}") long minDelayMs,
+                       @Value("${external.hedging.budget-ratio:0.1}") double budgetRatio,
+                       MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.percentile = percentile;
+    this.minDelay = Duration.ofMillis(minDelayMs);
+    this.budgetRatio = budgetRatio;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Aplica hedging a una lectura. La fuente debe ser fría: cada suscripción
+   * emite una nueva petición.
+   *
+   * @param source la lectura a proteger
+   * @param downstream nombre del servicio destino
+   * @param method nombre del método del cliente
+   * @param <T> el tipo emitido
+   * @return la lectura con hedging
+   */
+  public <T> Flux<T> hedge(Flux<T> source, String downstream, String method) {
+    if (!enabled) {
+      return source;
+    }
+    LatencyWindow window = windows.computeIfAbsent(downstream + ":" + method,
+        key -> new LatencyWindow(WINDOW_SIZE));
+
+    return Flux.defer(() -> {
+      depositToken();
+      long start = System.nanoTime();
+      Flux<T> primary = onFirstSignal(source,
+          () -> window.record(System.nanoTime() - start));
+
+      Optional<Duration> delay = window.percentile(percentile);
+      if (!delay.isPresent()) {
+        return primary;
+      }
+
+      AtomicBoolean decided = new AtomicBoolean();
+      Flux<T> hedge = Mono.delay(max(delay.get(), minDelay))
+        .flatMapMany(tick -> {
+          if (!tryAcquireToken()) {
+            count(downstream, method, "budget_exhausted");
+            return Flux.<T>never();
+          }
+          count(downstream, method, "issued");
+          return onFirstSignal(source, () -> {
+            if (decided.compareAndSet(false, true)) {
+              count(downstream, method, "won");
+            }
+          });
+        });
+
+      return Flux.firstWithSignal(onFirstSignal(primary, () -> decided.set(true)), hedge);
+    });
+  }
+
+  /**
+   * Transformador para aplicar hedging con {@code transform}.
+   *
+   * @param downstream nombre del servicio destino
+   * @param method nombre del método del cliente
+   * @param <T> el tipo emitido
+   * @return función que aplica hedging al Flux
+   */
+  public <T> Function<Flux<T>, Flux<T>> hedger(String downstream, String method) {
+    return source -> hedge(source, downstream, method);
+  }
+
+  private <T> Flux<T> onFirstSignal(Flux<T> source, Runnable action) {
+    return Flux.defer(() -> {
+      AtomicBoolean seen = new AtomicBoolean();
+      return source.doOnEach(signal -> {
+        if (seen.compareAndSet(false, true)) {
+          action.run();
+        }
+      });
+    });
+  }
+
+  private synchronized void depositToken() {
+    tokens = Math.min(MAX_TOKENS, tokens + budgetRatio);
+  }
+
+  private synchronized boolean tryAcquireToken() {
+    if (tokens < 1.0) {
+      return false;
+    }
+    tokens -= 1.0;
+    return true;
+  }
+
+  private void count(String downstream, String method, String event) {
+    meterRegistry.counter(HEDGE_COUNTER,
+        "downstream", downstream, "method", method, "event", event).increment();
+  }
+
+  private static Duration max(Duration a, Duration b) {
+    return a.compareTo(b) >= 0 ? a : b;
+  }
+
+  /**
+   * Ventana circular con las latencias más recientes de un método.
+   */
+  private static final class LatencyWindow {
+    private final long[] samples;
+    private int next;
+    private int size;
+
+    private LatencyWindow(int capacity) {
+      this.samples = new long[capacity];
+    }
+
+    private synchronized void record(long nanos) {
+      samples[next] = nanos;
+      next = (next + 1) % samples.length;
+      size = Math.min(size + 1, samples.length);
+    }
+
+    private Optional<Duration> percentile(double percentile) {
+      long[] copy;
+      synchronized (this) {
+        if (size < MIN_SAMPLES) {
+          return Optional.empty();
+        }
+        copy = Arrays.copyOf(samples, size);
+      }
+      Arrays.sort(copy);
+      int index = (int) Math.ceil(percentile * copy.length) - 1;
+      return Optional.of(Duration.ofNanos(copy[Math.max(0, index)]));
+    }
+  }
+}
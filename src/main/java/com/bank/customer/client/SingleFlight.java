@@ -0,0 +1,107 @@
+package com.bank.customer.client;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.reactivestreams.Subscriber;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Coalescencia de llamadas concurrentes a servicios externos (single-flight).
+ * Los suscriptores concurrentes de una misma clave (método y argumentos)
+ * comparten una única llamada en curso y reciben los mismos elementos decodificados.
+ *
+ * <p>Un suscriptor solo se une a la llamada mientras ésta no haya emitido
+ * su primer elemento, de modo que no hace falta retener en memoria lo ya
+ * emitido. Las suscripciones posteriores abren una nueva llamada.
+ */
+@Component
+public class SingleFlight {
+
+  private final Map<String, Flight<?>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * Ejecuta una llamada que emite varios elementos, compartiéndola por clave.
+   *
+   * @param key identifica el método y sus argumentos
+   * @param call produce la llamada al servicio externo
+   * @param <T> el tipo de los elementos emitidos
+   * @return Flux compartido con los suscriptores concurrentes de la misma clave
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Flux<T> flux(String key, Supplier<Flux<T>> call) {
+    return Flux.defer(() -> {
+      Flight<T> flight = (Flight<T>) inFlight.computeIfAbsent(key, k -> new Flight<>(k, call));
+      return Flux.<T>from(subscriber -> {
+        if (!flight.tryJoin(subscriber)) {
+          Flux.defer(call).subscribe(subscriber);
+        }
+      });
+    });
+  }
+
+  /**
+   * Ejecuta una llamada que emite a lo sumo un elemento, compartiéndola por clave.
+   *
+   * @param key identifica el método y sus argumentos
+   * @param call produce la llamada al servicio externo
+   * @param <T> el tipo del elemento emitido
+   * @return Mono compartido con los suscriptores concurrentes de la misma clave
+   */
+  public <T> Mono<T> mono(String key, Supplier<Mono<T>> call) {
+    return flux(key, () -> call.get().flux()).singleOrEmpty();
+  }
+
+  /**
+   * Cantidad de llamadas que todavía aceptan suscriptores.
+   *
+   * @return el número de claves en vuelo
+   */
+  public int inFlightCount() {
+    return inFlight.size();
+  }
+
+  /**
+   * Llamada en curso para una clave.
+   */
+  private final class Flight<T> {
+    private final String key;
+    private final Flux<T> shared;
+    private volatile boolean started;
+
+    private Flight(String key, Supplier<Flux<T>> call) {
+      this.key = key;
+      this.shared = Flux.defer(call)
+        .doOnNext(value -> markStarted())
+        .doFinally(signal -> close())
+        .publish()
+        .refCount();
+    }
+
+    private synchronized boolean tryJoin(Subscriber<? super T> subscriber) {
+      if (started) {
+        return false;
+      }
+      shared.subscribe(subscriber);
+      return true;
+    }
+
+    private void markStarted() {
+      if (!started) {
+        synchronized (this) {
+          started = true;
+        }
+        inFlight.remove(key, this);
+      }
+    }
+
+    private void close() {
+      synchronized (this) {
+        started = true;
+      }
+      inFlight.remove(key, this);
+    }
+  }
+}
@@ -1,15 +1,23 @@
 package com.bank.customer.client;
 
+import static com.bank.customer.metrics.ReactiveMetrics.CLIENT_TIMER;
+
+import com.bank.customer.metrics.ReactiveMetrics;
 import com.bank.customer.model.response.TransactionResponse;
+import com.bank.customer.model.response.TransactionTotalsResponse;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Cliente para comunicación con el servicio de Transacciones.
@@ -20,7 +28,13 @@ import reactor.core.publisher.Flux;
 @RequiredArgsConstructor
 public class TransactionServiceClient {
 
+  private static final String DOWNSTREAM = "transaction";
+
   private final WebClient webClient;
+  private final SingleFlight singleFlight;
+  private final ReactiveMetrics reactiveMetrics;
+  private final RequestHedger requestHedger;
+  private final DownstreamGuard downstreamGuard;
 
   @Value("${external.services.transaction.url:http://localhost:8084}")
   private String transactionServiceUrl;
@@ -29,7 +43,7 @@ public class TransactionServiceClient {
    * Obtiene las transacciones recientes de un cliente.
    *
    * @param customerId el ID del cliente
-   * @return Flux de TransactionResponse
+   * @return Flux de TransactionResponse, o error si la llamada falla
    */
   public Flux<TransactionResponse> getRecentTransactions(String customerId) {
     log.info("Getting recent transactions for customer: {}", customerId);
@@ -37,14 +51,16 @@ public class TransactionServiceClient {
     Map<String, Object> params = new HashMap<>();
     params.put("customerId", customerId);
 
-    return webClient.get()
-      .uri(transactionServiceUrl + "/transactions/customer/{customerId}", customerId)
-      .retrieve()
-      .bodyToFlux(new ParameterizedTypeReference<TransactionResponse>() {})
-      .doOnError(ex -> {
-        log.error("Error fetching transactions for customer {}: {}", customerId, ex.getMessage());
-      })
-      .onErrorResume(ex -> Flux.empty());
+    return singleFlight.flux("transactions:customer:" + customerId, () -> webClient.get()
+        .uri(transactionServiceUrl + "/transactions/customer/{customerId}", customerId)
+        .retrieve()
+        .bodyToFlux(new ParameterizedTypeReference<TransactionResponse>() {})
+        .transform(timedFlux("getRecentTransactions"))
+        .transform(guardedFlux())
+        .transform(hedged("getRecentTransactions"))
+        .doOnError(ex -> {
+          log.error("Error fetching transactions for customer {}: {}", customerId, ex.getMessage());
+        }));
   }
 
   /**
@@ -57,15 +73,74 @@ public class TransactionServiceClient {
   public Flux<TransactionResponse> getTransactionsByDateRange(String startDate, String endDate) {
     log.info("Getting transactions from {} to {}", startDate, endDate);
 
-    return webClient.get()
-      .uri(transactionServiceUrl + "/transactions?startDate={startDate}&endDate={endDate}",
-        startDate, endDate)
-      .retrieve()
-      .bodyToFlux(new ParameterizedTypeReference<TransactionResponse>() {})
-      .doOnError(ex -> {
-        log.error("Error fetching transactions by date range: {}", ex.getMessage());
-      })
-      .onErrorResume(ex -> Flux.empty());
+    String key = "transactions:range:" + startDate + ":" + endDate;
+    return singleFlight.flux(key, () -> webClient.get()
+        .uri(transactionServiceUrl + "/transactions?startDate={startDate}&endDate={endDate}",
+          startDate, endDate)
+        .retrieve()
+        .bodyToFlux(new ParameterizedTypeReference<TransactionResponse>() {})
+        .transform(timedFlux("getTransactionsByDateRange"))
+        .transform(bulkGuardedFlux())
+        .doOnError(ex -> {
+          log.error("Error fetching transactions by date range: {}", ex.getMessage());
+        })
+        .onErrorResume(ex -> Flux.empty()));
+  }
+
+  /**
+   * Obtiene los totales de transacciones dentro de un rango de fechas.
+   * Solicita al servicio de transacciones el conteo agregado por tipo y por
+   * producto; si el servicio no expone la agregación, cuenta el flujo del
+   * rango sin retener los elementos.
+   *
+   * @param startDate la fecha de inicio (formato: YYYY-MM-DD)
+   * @param endDate la fecha de fin (formato: YYYY-MM-DD)
+   * @return Mono de TransactionTotalsResponse
+   */
+  public Mono<TransactionTotalsResponse> getTransactionTotalsByDateRange(String startDate,
+                                                                         String endDate) {
+    log.info("Getting transaction totals from {} to {}", startDate, endDate);
+
+    String key = "transactions:totals:" + startDate + ":" + endDate;
+    return singleFlight.mono(key, () -> webClient.get()
+        .uri(transactionServiceUrl
+            + "/transactions/totals?startDate={startDate}&endDate={endDate}",
+          startDate, endDate)
+        .retrieve()
+        .bodyToMono(TransactionTotalsResponse.class)
+        .transform(timedMono("getTransactionTotalsByDateRange"))
+        .transform(guardedMono())
+        .onErrorResume(this::isAggregationUnsupported, ex -> {
+          log.warn("Transaction totals not supported downstream, counting stream: {}",
+              ex.getMessage());
+          return countTransactionsByDateRange(startDate, endDate);
+        })
+        .doOnError(ex -> {
+          log.error("Error fetching transaction totals by date range: {}", ex.getMessage());
+        })
+        .onErrorResume(ex -> Mono.just(new TransactionTotalsResponse())));
+  }
+
+  private Mono<TransactionTotalsResponse> countTransactionsByDateRange(String startDate,
+                                                                       String endDate) {
+    return getTransactionsByDateRange(startDate, endDate)
+      .reduceWith(TransactionTotalsResponse::new, (totals, transaction) -> {
+        totals.setTotalCount(totals.getTotalCount() + 1);
+        totals.getCountByType().merge(transaction.getTransactionType(), 1L, Long::sum);
+        totals.getCountByProduct().merge(
+            transaction.getAccountId() != null ? "ACCOUNT" : "CREDIT", 1L, Long::sum);
+        return totals;
+      });
+  }
+
+  private boolean isAggregationUnsupported(Throwable ex) {
+    if (!(ex instanceof WebClientResponseException)) {
+      return false;
+    }
+    HttpStatus status = ((WebClientResponseException) ex).getStatusCode();
+    return status == HttpStatus.NOT_FOUND
+      || status == HttpStatus.METHOD_NOT_ALLOWED
+      || status == HttpStatus.NOT_IMPLEMENTED;
   }
 
   /**
@@ -76,13 +151,39 @@ public class TransactionServiceClient {
   public Flux<TransactionResponse> getAllTransactions() {
     log.info("Getting all transactions");
 
-    return webClient.get()
-      .uri(transactionServiceUrl + "/transactions")
-      .retrieve()
-      .bodyToFlux(new ParameterizedTypeReference<TransactionResponse>() {})
-      .doOnError(ex -> {
-        log.error("Error fetching all transactions: {}", ex.getMessage());
-      })
-      .onErrorResume(ex -> Flux.empty());
+    return singleFlight.flux("transactions:all", () -> webClient.get()
+        .uri(transactionServiceUrl + "/transactions")
+        .retrieve()
+        .bodyToFlux(new ParameterizedTypeReference<TransactionResponse>() {})
+        .transform(timedFlux("getAllTransactions"))
+        .transform(bulkGuardedFlux())
+        .doOnError(ex -> {
+          log.error("Error fetching all transactions: {}", ex.getMessage());
+        })
+        .onErrorResume(ex -> Flux.empty()));
+  }
+
+  private <T> Function<Flux<T>, Flux<T>> timedFlux(String method) {
+    return reactiveMetrics.fluxTimer(CLIENT_TIMER, "downstream", DOWNSTREAM, "method", method);
+  }
+
+  private <T> Function<Flux<T>, Flux<T>> hedged(String method) {
+    return requestHedger.hedger(DOWNSTREAM, method);
+  }
+
+  private <T> Function<Flux<T>, Flux<T>> guardedFlux() {
+    return downstreamGuard.fluxGuard(DOWNSTREAM);
+  }
+
+  private <T> Function<Flux<T>, Flux<T>> bulkGuardedFlux() {
+    return downstreamGuard.bulkFluxGuard(DOWNSTREAM);
+  }
+
+  private <T> Function<Mono<T>, Mono<T>> guardedMono() {
+    return downstreamGuard.monoGuard(DOWNSTREAM);
+  }
+
+  private <T> Function<Mono<T>, Mono<T>> timedMono(String method) {
+    return reactiveMetrics.monoTimer(CLIENT_TIMER, "downstream", DOWNSTREAM, "method", method);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+package com.bank.customer.config;
+
+import com.bank.customer.filter.RouteClass;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades del control de admisión de peticiones entrantes.
+ * Define, por clase de ruta, cuántas peticiones se atienden en paralelo y
+ * cuántas pueden esperar turno antes de rechazarse.
+ */
+@Data
+@ConfigurationProperties(prefix = "customer.admission")
+public class AdmissionProperties {
+
+  /**
+   * Si el control de admisión está activo.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Límites por clase de ruta. Las clases sin límites no se restringen.
+   */
+  private Map<RouteClass, Limits> routes = defaultRoutes();
+
+  private static Map<RouteClass, Limits> defaultRoutes() {
+    Map<RouteClass, Limits> routes = new EnumMap<>(RouteClass.class);
+    routes.put(RouteClass.SUMMARY, new Limits(64, 128, Duration.ofMillis(500),
+        Duration.ofSeconds(1)));
+    routes.put(RouteClass.REPORT, new Limits(4, 8, Duration.ofSeconds(2),
+        Duration.ofSeconds(10)));
+    return routes;
+  }
+
+  /**
+   * Límites de una clase de ruta.
+   */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Limits {
+    private int maxConcurrent = 64;
+    private int maxQueued = 128;
+    private Duration queueTimeout = Duration.ofMillis(500);
+    private Duration retryAfter = Duration.ofSeconds(1);
+  }
+}
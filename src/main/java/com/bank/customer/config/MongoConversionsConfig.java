@@ -0,0 +1,48 @@
+package com.bank.customer.config;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Date;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+/**
+ * Conversiones adicionales de MongoDB.
+ * Los DTO generados usan OffsetDateTime, que MongoDB no soporta de forma nativa;
+ * se guardan como fechas UTC para poder persistir los reportes generados.
+ */
+@Configuration
+public class MongoConversionsConfig {
+
+  /**
+   * Registra las conversiones de OffsetDateTime.
+   *
+   * @return las conversiones personalizadas
+   */
+  @Bean
+  public MongoCustomConversions mongoCustomConversions() {
+    return new MongoCustomConversions(Arrays.asList(
+        new OffsetDateTimeToDateConverter(), new DateToOffsetDateTimeConverter()));
+  }
+
+  @WritingConverter
+  static class OffsetDateTimeToDateConverter implements Converter<OffsetDateTime, Date> {
+    @Override
+    public Date convert(OffsetDateTime source) {
+      return Date.from(source.toInstant());
+    }
+  }
+
+  @ReadingConverter
+  static class DateToOffsetDateTimeConverter implements Converter<Date, OffsetDateTime> {
+    @Override
+    public OffsetDateTime convert(Date source) {
+      return source.toInstant().atOffset(ZoneOffset.UTC);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package com.bank.customer.config;
+
+import com.bank.customer.model.Customer;
+import com.bank.customer.model.MonthlySummaryRecord;
+import com.bank.customer.model.ReportJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.ReactiveIndexOperations;
+import reactor.core.publisher.Flux;
+
+/**
+ * Configuración de índices de MongoDB.
+ * Crea al iniciar la aplicación los índices administrados de las colecciones de
+ * clientes, de trabajos de reporte y de resúmenes mensuales.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class MongoIndexConfig {
+
+  private final ReactiveMongoTemplate mongoTemplate;
+
+  /**
+   * Asegura los índices de la colección customers.
+   * El índice único de documentNumber garantiza que no existan clientes duplicados.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void ensureIndexes() {
+    ReactiveIndexOperations indexOps = mongoTemplate.indexOps(Customer.class);
+
+    Flux.concat(
+      indexOps.ensureIndex(new Index()
+        .on("documentNumber", Sort.Direction.ASC)
+        .unique()
+        .named("ux_customers_documentNumber")),
+      indexOps.ensureIndex(new Index()
+        .on("customerType", Sort.Direction.ASC)
+        .on("createdAt", Sort.Direction.ASC)
+        .named("ix_customers_customerType_createdAt"))
+    ).subscribe(
+      name -> log.info("Ensured index {} on customers", name),
+      ex -> log.error("Error ensuring indexes on customers: {}", ex.getMessage(), ex));
+
+    ensureReportJobIndexes();
+    ensureMonthlySummaryIndexes();
+  }
+
+  /**
+   * Asegura los índices de la colección report_jobs.
+   * El índice único disperso de activeKey permite un solo trabajo activo por petición.
+   */
+  private void ensureReportJobIndexes() {
+    ReactiveIndexOperations indexOps = mongoTemplate.indexOps(ReportJob.class);
+
+    Flux.concat(
+      indexOps.ensureIndex(new Index()
+        .on("activeKey", Sort.Direction.ASC)
+        .unique()
+        .sparse()
+        .named("ux_report_jobs_activeKey")),
+      indexOps.ensureIndex(new Index()
+        .on("createdAt", Sort.Direction.DESC)
+        .named("ix_report_jobs_createdAt"))
+    ).subscribe(
+      name -> log.info("Ensured index {} on report_jobs", name),
+      ex -> log.error("Error ensuring indexes on report_jobs: {}", ex.getMessage(), ex));
+  }
+
+  /**
+   * Asegura los índices de la colección monthly_summaries.
+   * El índice por estado y período permite cerrar los períodos anteriores.
+   */
+  private void ensureMonthlySummaryIndexes() {
+    mongoTemplate.indexOps(MonthlySummaryRecord.class)
+      .ensureIndex(new Index()
+        .on("closed", Sort.Direction.ASC)
+        .on("period", Sort.Direction.ASC)
+        .named("ix_monthly_summaries_closed_period"))
+      .subscribe(
+        name -> log.info("Ensured index {} on monthly_summaries", name),
+        ex -> log.error("Error ensuring indexes on monthly_summaries: {}", ex.getMessage(), ex));
+  }
+}
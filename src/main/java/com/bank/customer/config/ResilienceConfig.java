@@ -0,0 +1,80 @@
+package com.bank.customer.config;
+
+import com.bank.customer.exception.ConcurrencyLimitExceededException;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Configuración de circuit breakers y bulkheads para servicios externos.
+ * Los registros crean una instancia por servicio destino y publican su
+ * estado en Micrometer. Las lecturas masivas usan la configuración
+ * {@value #BULK_CONFIG}, con su propio umbral de llamada lenta.
+ */
+@Configuration
+@EnableConfigurationProperties(ResilienceProperties.class)
+public class ResilienceConfig {
+
+  public static final String BULK_CONFIG = "bulk";
+
+  /**
+   * Crea el registro de circuit breakers.
+   * Las respuestas 4xx y los rechazos del límite de concurrencia local no
+   * cuentan como fallas del servicio destino.
+   *
+   * @param properties propiedades de resiliencia
+   * @param meterRegistry registro de métricas de Micrometer
+   * @return el registro de circuit breakers
+   */
+  @Bean
+  public CircuitBreakerRegistry circuitBreakerRegistry(ResilienceProperties properties,
+                                                       MeterRegistry meterRegistry) {
+    CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+        .failureRateThreshold(properties.getFailureRateThreshold())
+        .slowCallRateThreshold(properties.getSlowCallRateThreshold())
+        .slowCallDurationThreshold(properties.getSlowCallDuration())
+        .slidingWindowSize(properties.getSlidingWindowSize())
+        .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+        .waitDurationInOpenState(properties.getWaitDurationInOpenState())
+        .permittedNumberOfCallsInHalfOpenState(properties.getPermittedCallsInHalfOpenState())
+        .recordException(ex -> !(ex instanceof ConcurrencyLimitExceededException)
+          && !(ex instanceof WebClientResponseException
+            && ((WebClientResponseException) ex).getStatusCode().is4xxClientError()))
+        .build();
+
+    CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+    registry.addConfiguration(BULK_CONFIG, CircuitBreakerConfig.from(config)
+        .slowCallDurationThreshold(properties.getBulkSlowCallDuration())
+        .build());
+    TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+    return registry;
+  }
+
+  /**
+   * Crea el registro de bulkheads.
+   *
+   * @param properties propiedades de resiliencia
+   * @param meterRegistry registro de métricas de Micrometer
+   * @return el registro de bulkheads
+   */
+  @Bean
+  public BulkheadRegistry bulkheadRegistry(ResilienceProperties properties,
+                                           MeterRegistry meterRegistry) {
+    BulkheadConfig config = BulkheadConfig.custom()
+        .maxConcurrentCalls(properties.getMaxConcurrentCalls())
+        .maxWaitDuration(properties.getMaxWaitDuration())
+        .build();
+
+    BulkheadRegistry registry = BulkheadRegistry.of(config);
+    TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+    return registry;
+  }
+}
@@ -0,0 +1,86 @@
+package com.bank.customer.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de resiliencia de las llamadas a servicios externos.
+ * Define el circuit breaker y el bulkhead que se crean por servicio destino, y
+ * los de las lecturas masivas, que se crean aparte para cada servicio destino.
+ */
+@Data
+@ConfigurationProperties(prefix = "external.resilience")
+public class ResilienceProperties {
+
+  /**
+   * Porcentaje de llamadas fallidas a partir del cual se abre el circuito.
+   */
+  private float failureRateThreshold = 50;
+
+  /**
+   * Porcentaje de llamadas lentas a partir del cual se abre el circuito.
+   */
+  private float slowCallRateThreshold = 80;
+
+  /**
+   * Duración a partir de la cual una llamada se considera lenta.
+   */
+  private Duration slowCallDuration = Duration.ofSeconds(2);
+
+  /**
+   * Tiempo máximo de espera de cada respuesta de una llamada protegida. El
+   * vencimiento se registra como falla en el circuito; debe ser menor que el
+   * presupuesto por tramo de los resúmenes, que cancela la llamada sin
+   * registrarla.
+   */
+  private Duration callTimeout = Duration.ofSeconds(1);
+
+  /**
+   * Cantidad de llamadas evaluadas en la ventana deslizante.
+   */
+  private int slidingWindowSize = 50;
+
+  /**
+   * Llamadas mínimas en la ventana antes de evaluar los umbrales.
+   */
+  private int minimumNumberOfCalls = 20;
+
+  /**
+   * Tiempo que el circuito permanece abierto antes de probar el servicio.
+   */
+  private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+
+  /**
+   * Llamadas de prueba permitidas con el circuito semiabierto.
+   */
+  private int permittedCallsInHalfOpenState = 5;
+
+  /**
+   * Llamadas concurrentes permitidas por servicio destino.
+   */
+  private int maxConcurrentCalls = 50;
+
+  /**
+   * Espera máxima por un cupo del bulkhead antes de rechazar la llamada.
+   */
+  private Duration maxWaitDuration = Duration.ZERO;
+
+  /**
+   * Límite de llamadas concurrentes por servicio destino (account, credit, transaction).
+   */
+  private Map<String, Integer> downstreamMaxConcurrentCalls = new HashMap<>();
+
+  /**
+   * Duración a partir de la cual una lectura masiva (listados completos) se
+   * considera lenta; un recorrido completo normal dura varios segundos.
+   */
+  private Duration bulkSlowCallDuration = Duration.ofSeconds(60);
+
+  /**
+   * Lecturas masivas concurrentes permitidas por servicio destino.
+   */
+  private int bulkMaxConcurrentCalls = 4;
+}
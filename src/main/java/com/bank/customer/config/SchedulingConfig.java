@@ -0,0 +1,13 @@
+package com.bank.customer.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas programadas del servicio, como la ingesta diaria de
+ * los contadores del reporte de productos.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
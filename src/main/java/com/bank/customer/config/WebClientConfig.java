@@ -1,23 +1,109 @@
 package com.bank.customer.config;
 
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 /**
  * Configuración para WebClient.
- * Provee un bean de WebClient para comunicación con otros microservicios.
+ * Provee un bean de WebClient para comunicación con otros microservicios,
+ * con un pool de conexiones acotado, timeouts y límites por servicio destino.
  */
+@Slf4j
 @Configuration
+@EnableConfigurationProperties(WebClientProperties.class)
 public class WebClientConfig {
 
+  private static final String READ_TIMEOUT_HANDLER = "downstreamReadTimeout";
+  private static final String WRITE_TIMEOUT_HANDLER = "downstreamWriteTimeout";
+
+  /**
+   * Crea el pool de conexiones compartido por los clientes de servicios externos.
+   * Publica métricas del pool en Micrometer.
+   *
+   * @param properties propiedades del cliente HTTP
+   * @param environment entorno para resolver las URLs de los servicios destino
+   * @return el proveedor de conexiones configurado
+   */
+  @Bean(destroyMethod = "dispose")
+  public ConnectionProvider downstreamConnectionProvider(WebClientProperties properties,
+                                                         Environment environment) {
+    WebClientProperties.Pool pool = properties.getPool();
+    ConnectionProvider.Builder builder = ConnectionProvider.builder("downstream")
+        .maxConnections(pool.getMaxConnections())
+        .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+        .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+        .maxIdleTime(pool.getMaxIdleTime())
+        .maxLifeTime(pool.getMaxLifeTime())
+        .evictInBackground(pool.getEvictInBackground())
+        .metrics(true);
+
+    for (Map.Entry<String, WebClientProperties.Pool> entry
+        : properties.getDownstreams().entrySet()) {
+      String url = environment.getProperty("external.services." + entry.getKey() + ".url");
+      if (url == null) {
+        log.warn("No URL configured for downstream {}, using default pool", entry.getKey());
+        continue;
+      }
+      URI uri = URI.create(url);
+      int port = uri.getPort() != -1 ? uri.getPort() : ("https".equals(uri.getScheme()) ? 443 : 80);
+      WebClientProperties.Pool hostPool = entry.getValue();
+      builder.forRemoteHost(InetSocketAddress.createUnresolved(uri.getHost(), port),
+          spec -> spec.maxConnections(hostPool.getMaxConnections())
+            .pendingAcquireMaxCount(hostPool.getPendingAcquireMaxCount())
+            .pendingAcquireTimeout(hostPool.getPendingAcquireTimeout())
+            .maxIdleTime(hostPool.getMaxIdleTime())
+            .maxLifeTime(hostPool.getMaxLifeTime())
+            .evictInBackground(hostPool.getEvictInBackground())
+            .metrics(true));
+    }
+
+    return builder.build();
+  }
+
   /**
    * Crea y configura un bean de WebClient.
    *
+   * @param connectionProvider el pool de conexiones compartido
+   * @param properties propiedades del cliente HTTP
    * @return instancia configurada de WebClient
    */
   @Bean
-  public WebClient webClient() {
-    return WebClient.builder().build();
+  public WebClient webClient(ConnectionProvider connectionProvider,
+                             WebClientProperties properties) {
+    HttpClient httpClient = HttpClient.create(connectionProvider)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
+          (int) properties.getConnectTimeout().toMillis())
+        // los timeouts de lectura y escritura se instalan solo mientras dura cada
+        // petición, para no cerrar las conexiones ociosas del pool; se reemplazan
+        // los que haya dejado una petición anterior que terminó con error
+        .doOnRequest((request, connection) -> connection
+          .removeHandler(READ_TIMEOUT_HANDLER)
+          .removeHandler(WRITE_TIMEOUT_HANDLER)
+          .addHandlerLast(READ_TIMEOUT_HANDLER, new ReadTimeoutHandler(
+            properties.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS))
+          .addHandlerLast(WRITE_TIMEOUT_HANDLER, new WriteTimeoutHandler(
+            properties.getWriteTimeout().toMillis(), TimeUnit.MILLISECONDS)))
+        .doAfterRequest((request, connection) ->
+          connection.removeHandler(WRITE_TIMEOUT_HANDLER))
+        .doAfterResponseSuccess((response, connection) ->
+          connection.removeHandler(READ_TIMEOUT_HANDLER));
+
+    return WebClient.builder()
+      .clientConnector(new ReactorClientHttpConnector(httpClient))
+      .build();
   }
-}
\ No newline at end of file
+}
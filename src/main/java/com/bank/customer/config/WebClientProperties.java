@@ -0,0 +1,58 @@
+package com.bank.customer.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades del cliente HTTP compartido por los clientes de servicios externos.
+ * Define el pool de conexiones, los timeouts y los límites por servicio destino.
+ */
+@Data
+@ConfigurationProperties(prefix = "external.http")
+public class WebClientProperties {
+
+  /**
+   * Timeout para establecer la conexión TCP.
+   */
+  private Duration connectTimeout = Duration.ofSeconds(2);
+
+  /**
+   * Tiempo máximo sin lectura mientras dura una petición, hasta recibir la
+   * respuesta completa. No limita la duración total: una respuesta en streaming
+   * que sigue enviando datos no expira, y las conexiones ociosas del pool no se
+   * ven afectadas.
+   */
+  private Duration readTimeout = Duration.ofSeconds(10);
+
+  /**
+   * Tiempo máximo para completar cada escritura mientras se envía una petición.
+   */
+  private Duration writeTimeout = Duration.ofSeconds(10);
+
+  /**
+   * Configuración por defecto del pool para cualquier host.
+   */
+  private Pool pool = new Pool();
+
+  /**
+   * Límites de pool por servicio destino (account, credit, transaction).
+   * El host se resuelve desde external.services.{nombre}.url.
+   */
+  private Map<String, Pool> downstreams = new HashMap<>();
+
+  /**
+   * Configuración de un pool de conexiones.
+   */
+  @Data
+  public static class Pool {
+    private int maxConnections = 100;
+    private int pendingAcquireMaxCount = 500;
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+    private Duration evictInBackground = Duration.ofSeconds(60);
+  }
+}
@@ -2,15 +2,30 @@ package com.bank.customer.controller;
 
 import com.bank.customer.api.CustomersApi;
 import com.bank.customer.model.ConsolidatedSummary;
+import com.bank.customer.model.CustomerBatchGetRequest;
+import com.bank.customer.model.CustomerBatchGetResponse;
+import com.bank.customer.model.CustomerImportResult;
 import com.bank.customer.model.CustomerMonthlySummary;
+import com.bank.customer.model.CustomerPage;
 import com.bank.customer.model.CustomerRequest;
 import com.bank.customer.model.CustomerResponse;
 import com.bank.customer.model.ProductReportRequest;
 import com.bank.customer.model.ProductReportResponse;
+import com.bank.customer.model.ReportJobResponse;
+import com.bank.customer.service.CustomerImportService;
 import com.bank.customer.service.CustomerService;
+import com.bank.customer.service.ReportJobService;
+import com.bank.customer.service.bulk.ImportFormat;
+import com.bank.customer.service.report.MonthlySummaryStore;
+import com.bank.customer.service.report.SummarySection;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Set;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
@@ -27,6 +42,8 @@ import reactor.core.publisher.Mono;
 public class CustomerController implements CustomersApi {
 
   private final CustomerService service;
+  private final ReportJobService reportJobService;
+  private final CustomerImportService importService;
 
   @Override
   public Mono<ResponseEntity<CustomerResponse>> create(
@@ -47,6 +64,30 @@ public class CustomerController implements CustomersApi {
     return Mono.just(ResponseEntity.ok(service.findAll()));
   }
 
+  @Override
+  public Mono<ResponseEntity<CustomerPage>> getPage(String cursor, Integer limit,
+                                                    ServerWebExchange exchange) {
+    return service.findPage(cursor, limit)
+      .map(ResponseEntity::ok);
+  }
+
+  @Override
+  public Mono<ResponseEntity<Flux<CustomerResponse>>> streamAll(ServerWebExchange exchange) {
+    return Mono.just(ResponseEntity.ok()
+      .contentType(MediaType.APPLICATION_NDJSON)
+      .body(service.streamAll()));
+  }
+
+  @Override
+  public Mono<ResponseEntity<Flux<CustomerImportResult>>> importCustomers(
+      Flux<String> requestBody, ServerWebExchange exchange) {
+    // el cuerpo llega como flujo de líneas, sin cargar el archivo completo
+    ImportFormat format = ImportFormat.of(exchange.getRequest().getHeaders().getContentType());
+    return Mono.just(ResponseEntity.ok()
+      .contentType(MediaType.APPLICATION_NDJSON)
+      .body(importService.importCustomers(requestBody, format)));
+  }
+
   @Override
   public Mono<ResponseEntity<CustomerResponse>> getByDocument(String documentNumber,
                                                               ServerWebExchange exchange) {
@@ -62,6 +103,17 @@ public class CustomerController implements CustomersApi {
       .defaultIfEmpty(ResponseEntity.notFound().build());
   }
 
+  @Override
+  public Mono<ResponseEntity<CustomerBatchGetResponse>> batchGet(
+      @Valid @RequestBody Mono<CustomerBatchGetRequest> customerBatchGetRequest,
+      ServerWebExchange exchange) {
+    return customerBatchGetRequest
+      .flatMap(service::batchGet)
+      .map(ResponseEntity::ok)
+      .onErrorResume(IllegalArgumentException.class,
+        ex -> Mono.just(ResponseEntity.badRequest().build()));
+  }
+
   @Override
   public Mono<ResponseEntity<CustomerResponse>> update(String id, @Valid @RequestBody
       Mono<CustomerRequest> customerRequest, ServerWebExchange exchange) {
@@ -73,7 +125,20 @@ public class CustomerController implements CustomersApi {
 
   @Override
   public Mono<ResponseEntity<CustomerMonthlySummary>> getCustomerMonthlySummary(
-      String customerId, ServerWebExchange exchange) {
+      String customerId, String period, ServerWebExchange exchange) {
+    if (period != null) {
+      YearMonth month;
+      try {
+        month = YearMonth.parse(period);
+      } catch (DateTimeParseException ex) {
+        return Mono.just(ResponseEntity.badRequest().build());
+      }
+      if (!month.equals(MonthlySummaryStore.currentPeriod())) {
+        return service.findMonthlySummary(customerId, month)
+          .map(ResponseEntity::ok)
+          .defaultIfEmpty(ResponseEntity.notFound().build());
+      }
+    }
     return service.generateMonthlySummary(customerId)
       .map(ResponseEntity::ok)
       .onErrorResume(ex -> {
@@ -83,16 +148,17 @@ public class CustomerController implements CustomersApi {
 
   @Override
   public Mono<ResponseEntity<ConsolidatedSummary>> getConsolidatedSummary(
-      String customerId, ServerWebExchange exchange) {
-    return service.getConsolidatedSummary(customerId)
-      .map(summary -> ResponseEntity.ok(summary))
-      .onErrorResume(ex -> {
-        // Manejo de errores
-        if (ex.getMessage().contains("not found")) {
-          return Mono.just(ResponseEntity.notFound().build());
-        }
-        return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
-      });
+      String customerId, List<String> fields, ServerWebExchange exchange) {
+    Set<SummarySection> sections;
+    try {
+      sections = SummarySection.fromFields(fields);
+    } catch (IllegalArgumentException ex) {
+      return Mono.just(ResponseEntity.badRequest().build());
+    }
+    // Los errores se propagan al manejador global: 404 si el cliente no existe,
+    // 503 si el ejecutor de reportes está saturado
+    return service.getConsolidatedSummary(customerId, sections)
+      .map(summary -> ResponseEntity.ok(summary));
   }
 
   @Override
@@ -100,10 +166,27 @@ public class CustomerController implements CustomersApi {
       Mono<ProductReportRequest> productReportRequest, ServerWebExchange exchange) {
     return productReportRequest
       .flatMap(service::generateProductReport)
-      .map(ResponseEntity::ok)
-      .onErrorResume(ex -> {
-        return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
-      });
+      .map(ResponseEntity::ok);
+  }
 
+  @Override
+  public Mono<ResponseEntity<ReportJobResponse>> createProductReportJob(
+      Mono<ProductReportRequest> productReportRequest, ServerWebExchange exchange) {
+    return productReportRequest
+      .flatMap(reportJobService::submit)
+      .map(job -> ResponseEntity.status(HttpStatus.ACCEPTED).body(job));
+  }
+
+  @Override
+  public Mono<ResponseEntity<ReportJobResponse>> getProductReportJob(String jobId,
+                                                                     ServerWebExchange exchange) {
+    return reportJobService.findById(jobId)
+      .map(ResponseEntity::ok);
+  }
+
+  @Override
+  public Mono<ResponseEntity<Flux<ReportJobResponse>>> listProductReportJobs(
+      Integer limit, ServerWebExchange exchange) {
+    return Mono.just(ResponseEntity.ok(reportJobService.findRecent(limit)));
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,18 @@
+package com.bank.customer.exception;
+
+/**
+ * Excepción lanzada cuando una llamada a un servicio externo supera el límite
+ * de concurrencia adaptativo de ese servicio.
+ * La llamada se rechaza sin abrir conexiones.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+  /**
+   * Constructor con mensaje de error.
+   *
+   * @param message el mensaje descriptivo del error
+   */
+  public ConcurrencyLimitExceededException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,17 @@
+package com.bank.customer.exception;
+
+/**
+ * Excepción lanzada cuando un recurso ya existe con el mismo identificador único.
+ * Generalmente se usa para clientes con un número de documento ya registrado.
+ */
+public class DuplicateResourceException extends RuntimeException {
+
+  /**
+   * Constructor con mensaje de error.
+   *
+   * @param message el mensaje descriptivo del error
+   */
+  public DuplicateResourceException(String message) {
+    super(message);
+  }
+}
@@ -1,6 +1,7 @@
 package com.bank.customer.exception;
 
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 import javax.validation.ConstraintViolationException;
 import org.slf4j.Logger;
@@ -44,6 +45,50 @@ public class GlobalExceptionHandler {
     return Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).body(response));
   }
 
+  /**
+   * Maneja excepciones cuando un recurso ya existe.
+   *
+   * @param ex la excepción de recurso duplicado
+   * @param exchange el intercambio del servidor web
+   * @return respuesta de error con estado 409
+   */
+  @ExceptionHandler(DuplicateResourceException.class)
+  public Mono<ResponseEntity<ErrorResponse>> handleConflict(DuplicateResourceException ex,
+                                                            ServerWebExchange exchange) {
+    log.warn("Resource conflict: {}", ex.getMessage());
+
+    ErrorResponse response = ErrorResponse.builder()
+        .status(HttpStatus.CONFLICT.value())
+        .error(HttpStatus.CONFLICT.getReasonPhrase())
+        .message(ex.getMessage())
+        .path(exchange.getRequest().getPath().value())
+        .build();
+
+    return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(response));
+  }
+
+  /**
+   * Maneja el rechazo de tareas cuando el ejecutor de reportes está saturado.
+   *
+   * @param ex la excepción de tarea rechazada
+   * @param exchange el intercambio del servidor web
+   * @return respuesta de error con estado 503
+   */
+  @ExceptionHandler(RejectedExecutionException.class)
+  public Mono<ResponseEntity<ErrorResponse>> handleRejected(RejectedExecutionException ex,
+                                                            ServerWebExchange exchange) {
+    log.warn("Task rejected: {}", ex.getMessage());
+
+    ErrorResponse response = ErrorResponse.builder()
+        .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+        .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+        .message("Report capacity exceeded, retry later")
+        .path(exchange.getRequest().getPath().value())
+        .build();
+
+    return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response));
+  }
+
   /**
    * Maneja excepciones de validación de datos de entrada.
    *
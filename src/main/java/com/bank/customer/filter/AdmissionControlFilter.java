@@ -0,0 +1,126 @@
+package com.bank.customer.filter;
+
+import com.bank.customer.config.AdmissionProperties;
+import com.bank.customer.exception.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Control de admisión por clase de ruta.
+ * Las rutas costosas (reportes y resúmenes) tienen un máximo de peticiones en
+ * ejecución y una cola de espera acotada; las operaciones CRUD no se limitan,
+ * de modo que siguen atendiéndose durante un pico de carga.
+ *
+ * <p>Cuando la cola está llena la petición se rechaza con 429 y cuando vence la
+ * espera en cola con 503, ambas con la cabecera {@code Retry-After}. Los
+ * rechazos se cuentan en {@value #REJECTED_COUNTER}.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionControlFilter implements WebFilter {
+
+  public static final String REJECTED_COUNTER = "customer.admission.rejected";
+
+  private final AdmissionProperties properties;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+  private final Map<RouteClass, AdmissionQueue> queues = new EnumMap<>(RouteClass.class);
+
+  /**
+   * Crea el filtro con una cola por cada clase de ruta limitada.
+   *
+   * @param properties propiedades del control de admisión
+   * @param objectMapper serializador de las respuestas de error
+   * @param meterRegistry registro de métricas de Micrometer
+   */
+  public AdmissionControlFilter(AdmissionProperties properties, ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+    properties.getRoutes().forEach((route, limits) -> {
+      AdmissionQueue queue = new AdmissionQueue(limits.getMaxConcurrent(),
+          limits.getMaxQueued());
+      queues.put(route, queue);
+      String tag = route.name().toLowerCase();
+      Gauge.builder("customer.admission.in-flight", queue, AdmissionQueue::inFlight)
+          .tag("route", tag)
+          .register(meterRegistry);
+      Gauge.builder("customer.admission.queued", queue, AdmissionQueue::queued)
+          .tag("route", tag)
+          .register(meterRegistry);
+    });
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    if (!properties.isEnabled()) {
+      return chain.filter(exchange);
+    }
+    RouteClass route = RouteClass.of(exchange.getRequest());
+    AdmissionQueue queue = queues.get(route);
+    if (queue == null) {
+      return chain.filter(exchange);
+    }
+    AdmissionProperties.Limits limits = properties.getRoutes().get(route);
+
+    return queue.acquire(limits.getQueueTimeout())
+      .flatMap(outcome -> {
+        switch (outcome) {
+          case ADMITTED:
+            return chain.filter(exchange).doFinally(signal -> queue.release());
+          case QUEUE_FULL:
+            return reject(exchange, route, limits, HttpStatus.TOO_MANY_REQUESTS);
+          default:
+            return reject(exchange, route, limits, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+      });
+  }
+
+  private Mono<Void> reject(ServerWebExchange exchange, RouteClass route,
+                            AdmissionProperties.Limits limits, HttpStatus status) {
+    String path = exchange.getRequest().getPath().value();
+    log.warn("Admission rejected route={} status={} path={}", route, status.value(), path);
+    meterRegistry.counter(REJECTED_COUNTER,
+        "route", route.name().toLowerCase(), "status", String.valueOf(status.value()))
+        .increment();
+
+    ServerHttpResponse response = exchange.getResponse();
+    response.setStatusCode(status);
+    response.getHeaders().set(HttpHeaders.RETRY_AFTER,
+        String.valueOf(Math.max(1, limits.getRetryAfter().getSeconds())));
+
+    ErrorResponse body = ErrorResponse.builder()
+        .status(status.value())
+        .error(status.getReasonPhrase())
+        .message("Server is busy, retry later")
+        .path(path)
+        .build();
+    try {
+      byte[] bytes = objectMapper.writeValueAsBytes(body);
+      response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+      return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+    } catch (JsonProcessingException ex) {
+      return response.setComplete();
+    }
+  }
+}
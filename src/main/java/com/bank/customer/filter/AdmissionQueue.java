@@ -0,0 +1,133 @@
+package com.bank.customer.filter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * Cupos de ejecución de una clase de ruta con una cola de espera acotada.
+ * Una petición entra si hay cupo, espera en la cola si hay lugar, o se rechaza.
+ */
+class AdmissionQueue {
+
+  /**
+   * Resultado de pedir un cupo.
+   */
+  enum Outcome {
+    ADMITTED,
+    QUEUE_FULL,
+    QUEUE_TIMEOUT
+  }
+
+  private final int maxConcurrent;
+  private final int maxQueued;
+  private final Deque<Waiter> waiting = new ArrayDeque<>();
+  private int inFlight;
+
+  AdmissionQueue(int maxConcurrent, int maxQueued) {
+    this.maxConcurrent = maxConcurrent;
+    this.maxQueued = maxQueued;
+  }
+
+  /**
+   * Pide un cupo, esperando como máximo el tiempo indicado.
+   * Si el resultado es ADMITTED, el llamador debe invocar {@link #release()}.
+   *
+   * @param queueTimeout espera máxima en la cola
+   * @return el resultado de la admisión
+   */
+  Mono<Outcome> acquire(Duration queueTimeout) {
+    return Mono.<Outcome>create(sink -> {
+      Waiter waiter = null;
+      synchronized (this) {
+        if (inFlight < maxConcurrent) {
+          inFlight++;
+        } else if (waiting.size() < maxQueued) {
+          waiter = new Waiter(sink);
+          waiting.addLast(waiter);
+        } else {
+          sink.success(Outcome.QUEUE_FULL);
+          return;
+        }
+      }
+      if (waiter == null) {
+        sink.success(Outcome.ADMITTED);
+        return;
+      }
+      Waiter queued = waiter;
+      sink.onCancel(() -> cancel(queued));
+    })
+      .timeout(queueTimeout)
+      .onErrorReturn(TimeoutException.class, Outcome.QUEUE_TIMEOUT);
+  }
+
+  /**
+   * Libera un cupo, cediéndolo a la siguiente petición en espera si la hay.
+   */
+  void release() {
+    while (true) {
+      Waiter next;
+      synchronized (this) {
+        next = waiting.pollFirst();
+        if (next == null) {
+          inFlight--;
+          return;
+        }
+      }
+      if (next.grant()) {
+        return;
+      }
+    }
+  }
+
+  synchronized int inFlight() {
+    return inFlight;
+  }
+
+  synchronized int queued() {
+    return waiting.size();
+  }
+
+  private void cancel(Waiter waiter) {
+    if (waiter.cancel()) {
+      synchronized (this) {
+        waiting.remove(waiter);
+      }
+    } else {
+      // el cupo se cedió justo antes de cancelar: se devuelve
+      release();
+    }
+  }
+
+  /**
+   * Petición en espera; solo uno de grant o cancel tiene efecto.
+   */
+  private static final class Waiter {
+    private static final int WAITING = 0;
+    private static final int GRANTED = 1;
+    private static final int CANCELLED = 2;
+
+    private final MonoSink<Outcome> sink;
+    private final AtomicInteger state = new AtomicInteger(WAITING);
+
+    private Waiter(MonoSink<Outcome> sink) {
+      this.sink = sink;
+    }
+
+    private boolean grant() {
+      if (!state.compareAndSet(WAITING, GRANTED)) {
+        return false;
+      }
+      sink.success(Outcome.ADMITTED);
+      return true;
+    }
+
+    private boolean cancel() {
+      return state.compareAndSet(WAITING, CANCELLED);
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.bank.customer.filter;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+
+/**
+ * Clases de prioridad de las rutas del servicio para el control de admisión.
+ * CRUD agrupa las operaciones baratas que deben seguir atendiéndose bajo carga;
+ * SUMMARY y REPORT agrupan las rutas costosas que se limitan.
+ */
+public enum RouteClass {
+
+  CRUD,
+  SUMMARY,
+  REPORT;
+
+  /**
+   * Clasifica una petición según su ruta y método.
+   *
+   * @param request la petición entrante
+   * @return la clase de la ruta
+   */
+  public static RouteClass of(ServerHttpRequest request) {
+    String path = request.getPath().pathWithinApplication().value();
+    if (path.contains("/customers/reports/products/jobs")) {
+      // los trabajos de reporte solo encolan o consultan; su cola ya está acotada
+      return CRUD;
+    }
+    if (path.contains("/customers/reports/")
+        || path.endsWith("/customers/import")
+        || (request.getMethod() == HttpMethod.GET && path.endsWith("/customers/stream"))) {
+      return REPORT;
+    }
+    if (path.endsWith("/consolidated-summary") || path.endsWith("/monthly-summary")) {
+      return SUMMARY;
+    }
+    return CRUD;
+  }
+}
@@ -0,0 +1,43 @@
+package com.bank.customer.mapper;
+
+import com.bank.customer.model.ReportJob;
+import com.bank.customer.model.ReportJobResponse;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Mapper para convertir los trabajos de reporte a su DTO de respuesta.
+ */
+@Mapper(componentModel = "spring")
+public interface ReportJobMapper {
+
+  /**
+   * Convierte un trabajo a su respuesta, incluyendo el reporte si ya terminó.
+   *
+   * @param entity el trabajo de reporte
+   * @return el DTO de respuesta del trabajo
+   */
+  ReportJobResponse toResponse(ReportJob entity);
+
+  /**
+   * Convierte un trabajo a su respuesta sin el reporte, para los listados.
+   *
+   * @param entity el trabajo de reporte
+   * @return el DTO de respuesta del trabajo sin resultado
+   */
+  @Mapping(target = "result", ignore = true)
+  ReportJobResponse toSummary(ReportJob entity);
+
+  /**
+   * Convierte Instant a OffsetDateTime.
+   *
+   * @param instant el tiempo instantáneo
+   * @return OffsetDateTime en UTC
+   */
+  default OffsetDateTime map(Instant instant) {
+    return instant != null ? instant.atOffset(ZoneOffset.UTC) : null;
+  }
+}
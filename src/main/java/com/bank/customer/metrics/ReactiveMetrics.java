@@ -0,0 +1,110 @@
+package com.bank.customer.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Instrumentación de publishers reactivos con Micrometer.
+ * Registra un timer con histograma de percentiles por suscripción, etiquetado
+ * con el resultado (success, error, cancelled), y un contador de errores.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactiveMetrics {
+
+  public static final String SERVICE_TIMER = "customer.service.operations";
+  public static final String CLIENT_TIMER = "customer.downstream.requests";
+  public static final String REPORT_TIMER = "customer.report.phases";
+
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Mide la duración de un Mono desde la suscripción hasta su terminación.
+   *
+   * @param source el Mono a medir
+   * @param name nombre del timer
+   * @param tags pares clave-valor de etiquetas
+   * @param <T> el tipo emitido
+   * @return el Mono instrumentado
+   */
+  public <T> Mono<T> timeMono(Mono<T> source, String name, String... tags) {
+    return Mono.defer(() -> {
+      Timer.Sample sample = Timer.start(meterRegistry);
+      return source
+        .doOnError(ex -> countError(name, tags, ex))
+        .doFinally(signal -> stop(sample, name, tags, signal));
+    });
+  }
+
+  /**
+   * Mide la duración de un Flux desde la suscripción hasta su terminación.
+   *
+   * @param source el Flux a medir
+   * @param name nombre del timer
+   * @param tags pares clave-valor de etiquetas
+   * @param <T> el tipo emitido
+   * @return el Flux instrumentado
+   */
+  public <T> Flux<T> timeFlux(Flux<T> source, String name, String... tags) {
+    return Flux.defer(() -> {
+      Timer.Sample sample = Timer.start(meterRegistry);
+      return source
+        .doOnError(ex -> countError(name, tags, ex))
+        .doFinally(signal -> stop(sample, name, tags, signal));
+    });
+  }
+
+  /**
+   * Transformador para medir un Mono con {@code transform}.
+   *
+   * @param name nombre del timer
+   * @param tags pares clave-valor de etiquetas
+   * @param <T> el tipo emitido
+   * @return función que instrumenta el Mono
+   */
+  public <T> Function<Mono<T>, Mono<T>> monoTimer(String name, String... tags) {
+    return source -> timeMono(source, name, tags);
+  }
+
+  /**
+   * Transformador para medir un Flux con {@code transform}.
+   *
+   * @param name nombre del timer
+   * @param tags pares clave-valor de etiquetas
+   * @param <T> el tipo emitido
+   * @return función que instrumenta el Flux
+   */
+  public <T> Function<Flux<T>, Flux<T>> fluxTimer(String name, String... tags) {
+    return source -> timeFlux(source, name, tags);
+  }
+
+  private void stop(Timer.Sample sample, String name, String[] tags, SignalType signal) {
+    sample.stop(Timer.builder(name)
+        .tags(Tags.of(tags).and("outcome", outcomeOf(signal)))
+        .publishPercentileHistogram()
+        .register(meterRegistry));
+  }
+
+  private void countError(String name, String[] tags, Throwable ex) {
+    meterRegistry.counter(name + ".errors",
+        Tags.of(tags).and("exception", ex.getClass().getSimpleName())).increment();
+  }
+
+  private String outcomeOf(SignalType signal) {
+    switch (signal) {
+      case ON_COMPLETE:
+        return "success";
+      case ON_ERROR:
+        return "error";
+      default:
+        return "cancelled";
+    }
+  }
+}
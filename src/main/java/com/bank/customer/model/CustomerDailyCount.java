@@ -0,0 +1,18 @@
+package com.bank.customer.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cantidad de clientes de un tipo creados en un día, resultado de la agregación
+ * por día de creación y tipo de cliente.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerDailyCount {
+  private String day;
+  private String customerType;
+  private long count;
+}
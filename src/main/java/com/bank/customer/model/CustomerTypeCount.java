@@ -0,0 +1,16 @@
+package com.bank.customer.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cantidad de clientes de un tipo, resultado de la agregación por tipo de cliente.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerTypeCount {
+  private String customerType;
+  private long count;
+}
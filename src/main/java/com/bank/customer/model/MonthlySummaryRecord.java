@@ -0,0 +1,50 @@
+package com.bank.customer.model;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Resumen mensual precalculado de un cliente para un período.
+ * Los períodos abiertos se recalculan en cada corrida del generador; al
+ * terminar el mes el período se cierra y su resumen ya no se modifica.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "monthly_summaries")
+public class MonthlySummaryRecord {
+
+  /**
+   * ID del cliente y período separados por dos puntos (customerId:yyyy-MM).
+   */
+  @Id
+  private String id;
+
+  private String customerId;
+
+  /**
+   * Período en formato yyyy-MM, ordenable como texto.
+   */
+  private String period;
+
+  private boolean closed;
+  private CustomerMonthlySummary summary;
+  private Instant generatedAt;
+
+  /**
+   * Construye el ID del resumen de un cliente en un período.
+   *
+   * @param customerId el ID del cliente
+   * @param period el período en formato yyyy-MM
+   * @return el ID del documento
+   */
+  public static String idOf(String customerId, String period) {
+    return customerId + ":" + period;
+  }
+}
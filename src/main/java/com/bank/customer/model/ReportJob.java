@@ -0,0 +1,52 @@
+package com.bank.customer.model;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Trabajo asíncrono de generación del reporte de productos.
+ * Guarda la petición, el avance y, al terminar, el reporte generado.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "report_jobs")
+public class ReportJob {
+
+  public static final String QUEUED = "QUEUED";
+  public static final String RUNNING = "RUNNING";
+  public static final String COMPLETED = "COMPLETED";
+  public static final String FAILED = "FAILED";
+
+  @Id
+  private String id;
+
+  /**
+   * Clave que identifica peticiones idénticas.
+   */
+  private String requestKey;
+
+  /**
+   * Copia de requestKey mientras el trabajo está pendiente o en ejecución.
+   * Tiene un índice único disperso, por lo que solo puede existir un trabajo
+   * activo por petición.
+   */
+  private String activeKey;
+
+  private String status;
+  private int progress;
+  private ProductReportRequest request;
+  private ProductReportResponse result;
+  private String error;
+
+  private Instant createdAt;
+  private Instant startedAt;
+  private Instant completedAt;
+  private Instant updatedAt;
+}
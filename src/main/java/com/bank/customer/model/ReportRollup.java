@@ -0,0 +1,47 @@
+package com.bank.customer.model;
+
+import java.time.Instant;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Contadores diarios del reporte de productos.
+ * Los clientes por tipo son altas netas del día y se mantienen al crear y
+ * eliminar clientes; los campos de productos son la foto de cuentas y créditos
+ * tomada al ingerir el día, y los de transacciones son los totales del día.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "report_rollups")
+public class ReportRollup {
+
+  /**
+   * Día del contador en formato ISO (yyyy-MM-dd), ordenable como texto.
+   */
+  @Id
+  private String day;
+
+  private Map<String, Long> customersByType;
+
+  private Map<String, Long> accountsByType;
+  private Double accountBalanceSum;
+  private Map<String, Long> creditsByType;
+  private Double outstandingSum;
+  private Double interestRateSum;
+
+  private Long transactionCount;
+  private Map<String, Long> transactionsByType;
+  private Map<String, Long> transactionsByProduct;
+
+  /**
+   * Momento en que se ingirió la foto de productos del día, o null si no existe.
+   */
+  private Instant snapshotAt;
+}
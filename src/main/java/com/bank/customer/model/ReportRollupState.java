@@ -0,0 +1,32 @@
+package com.bank.customer.model;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Estado de mantenimiento de los contadores del reporte de productos.
+ * Registra cuándo se reconstruyeron por última vez los contadores de clientes;
+ * mientras no exista, los contadores de clientes no se consideran completos.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "report_rollup_state")
+public class ReportRollupState {
+
+  public static final String CUSTOMERS = "customers";
+
+  @Id
+  private String id;
+
+  /**
+   * Momento en que comenzó la última reconstrucción completa.
+   */
+  private Instant rebuiltAt;
+}
@@ -0,0 +1,20 @@
+package com.bank.customer.model.response;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de respuesta para totales agregados de transacciones.
+ * Representa los conteos de un rango de fechas sin el detalle de cada transacción.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransactionTotalsResponse {
+  private long totalCount;
+  private Map<String, Long> countByType = new HashMap<>();
+  private Map<String, Long> countByProduct = new HashMap<>();
+}
@@ -1,14 +1,18 @@
 package com.bank.customer.repository;
 
 import com.bank.customer.model.Customer;
+import java.util.Collection;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
  * Repositorio reactivo para operaciones de base de datos de Customer.
  * Extiende ReactiveMongoRepository para operaciones CRUD reactivas.
  */
-public interface CustomerRepository extends ReactiveMongoRepository<Customer, String> {
+public interface CustomerRepository extends ReactiveMongoRepository<Customer, String>,
+    CustomerRepositoryCustom {
 
   /**
    * Busca un cliente por número de documento.
@@ -17,4 +21,38 @@ public interface CustomerRepository extends ReactiveMongoRepository<Customer, St
    * @return Mono que emite el Customer encontrado o vacío si no existe
    */
   Mono<Customer> findByDocumentNumber(String documentNumber);
-}
\ No newline at end of file
+
+  /**
+   * Obtiene la primera página de clientes.
+   *
+   * @param pageable tamaño de página y orden por ID
+   * @return Flux con los clientes de la página
+   */
+  Flux<Customer> findAllBy(Pageable pageable);
+
+  /**
+   * Obtiene la página de clientes posterior a un ID (paginación por cursor).
+   *
+   * @param id el ID del último cliente de la página anterior
+   * @param pageable tamaño de página y orden por ID
+   * @return Flux con los clientes de la página
+   */
+  Flux<Customer> findByIdGreaterThan(String id, Pageable pageable);
+
+  /**
+   * Busca los clientes con alguno de los IDs indicados en una sola consulta.
+   *
+   * @param ids los IDs de los clientes
+   * @return Flux con los clientes encontrados, sin orden garantizado
+   */
+  Flux<Customer> findByIdIn(Collection<String> ids);
+
+  /**
+   * Busca los clientes con alguno de los números de documento indicados
+   * en una sola consulta.
+   *
+   * @param documentNumbers los números de documento de los clientes
+   * @return Flux con los clientes encontrados, sin orden garantizado
+   */
+  Flux<Customer> findByDocumentNumberIn(Collection<String> documentNumbers);
+}
@@ -0,0 +1,63 @@
+package com.bank.customer.repository;
+
+import com.bank.customer.model.Customer;
+import com.bank.customer.model.CustomerDailyCount;
+import com.bank.customer.model.CustomerTypeCount;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Operaciones personalizadas del repositorio de clientes.
+ * Resuelve escrituras atómicas y agregaciones en un solo comando contra MongoDB.
+ */
+public interface CustomerRepositoryCustom {
+
+  /**
+   * Actualiza los campos editables de un cliente en un solo findAndModify.
+   * Devuelve el documento previo para que el llamador vea los valores que
+   * reemplazó (por ejemplo, un cambio de tipo de cliente).
+   *
+   * @param id el ID del cliente a actualizar
+   * @param changes los nuevos valores de los campos editables
+   * @return Mono con el Customer previo a la actualización o vacío si no existe
+   */
+  Mono<Customer> updateFields(String id, Customer changes);
+
+  /**
+   * Elimina un cliente por su ID en un solo findAndRemove.
+   *
+   * @param id el ID del cliente a eliminar
+   * @return Mono con el Customer eliminado o vacío si no existe
+   */
+  Mono<Customer> findAndRemoveById(String id);
+
+  /**
+   * Inserta un lote de clientes con un solo insertMany no ordenado: los
+   * documentos que fallan no detienen la inserción del resto. Los clientes
+   * insertados reciben su ID generado.
+   *
+   * @param customers los clientes a insertar
+   * @return Mono con el código de error de cada posición que no se insertó
+   */
+  Mono<Map<Integer, Integer>> insertUnordered(List<Customer> customers);
+
+  /**
+   * Cuenta los clientes por tipo con una agregación en MongoDB, sin leer los
+   * documentos. Los límites nulos no filtran.
+   *
+   * @param from fecha de creación mínima, inclusiva
+   * @param to fecha de creación máxima, exclusiva
+   * @return Flux con la cantidad de clientes de cada tipo
+   */
+  Flux<CustomerTypeCount> countByCustomerType(Instant from, Instant to);
+
+  /**
+   * Cuenta los clientes por día de creación (UTC) y tipo con una agregación.
+   *
+   * @return Flux con la cantidad de clientes de cada día y tipo
+   */
+  Flux<CustomerDailyCount> countByCreatedDayAndType();
+}
@@ -0,0 +1,126 @@
+package com.bank.customer.repository;
+
+import com.bank.customer.model.Customer;
+import com.bank.customer.model.CustomerDailyCount;
+import com.bank.customer.model.CustomerTypeCount;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.model.InsertManyOptions;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementación de las operaciones personalizadas del repositorio de clientes.
+ * Usa ReactiveMongoTemplate para emitir comandos atómicos y agregaciones.
+ */
+@RequiredArgsConstructor
+public class CustomerRepositoryImpl implements CustomerRepositoryCustom {
+
+  private final ReactiveMongoTemplate mongoTemplate;
+
+  @Override
+  public Mono<Customer> updateFields(String id, Customer changes) {
+    Update update = new Update();
+    setOrUnset(update, "firstName", changes.getFirstName());
+    setOrUnset(update, "lastName", changes.getLastName());
+    setOrUnset(update, "email", changes.getEmail());
+    setOrUnset(update, "phone", changes.getPhone());
+    setOrUnset(update, "customerType", changes.getCustomerType());
+    setOrUnset(update, "documentNumber", changes.getDocumentNumber());
+
+    return mongoTemplate.findAndModify(byId(id), update,
+      FindAndModifyOptions.options().returnNew(false), Customer.class);
+  }
+
+  @Override
+  public Mono<Customer> findAndRemoveById(String id) {
+    return mongoTemplate.findAndRemove(byId(id), Customer.class);
+  }
+
+  @Override
+  public Mono<Map<Integer, Integer>> insertUnordered(List<Customer> customers) {
+    List<Document> documents = customers.stream()
+        .map(customer -> {
+          Document document = new Document();
+          mongoTemplate.getConverter().write(customer, document);
+          return document;
+        })
+        .collect(Collectors.toList());
+
+    return mongoTemplate.getCollection(mongoTemplate.getCollectionName(Customer.class))
+      .flatMap(collection -> Mono.from(collection.insertMany(documents,
+        new InsertManyOptions().ordered(false))))
+      .<Map<Integer, Integer>>map(result -> Collections.emptyMap())
+      .onErrorResume(MongoBulkWriteException.class, ex -> Mono.just(ex.getWriteErrors()
+        .stream()
+        .collect(Collectors.toMap(BulkWriteError::getIndex, BulkWriteError::getCode,
+          (first, second) -> first))))
+      .doOnNext(failed -> {
+        // el driver asigna el _id a cada documento antes de enviarlo
+        for (int i = 0; i < customers.size(); i++) {
+          if (!failed.containsKey(i)) {
+            customers.get(i).setId(documents.get(i).get("_id").toString());
+          }
+        }
+      });
+  }
+
+  @Override
+  public Flux<CustomerTypeCount> countByCustomerType(Instant from, Instant to) {
+    List<AggregationOperation> operations = new ArrayList<>();
+    if (from != null || to != null) {
+      Criteria createdAt = Criteria.where("createdAt");
+      if (from != null) {
+        createdAt.gte(from);
+      }
+      if (to != null) {
+        createdAt.lt(to);
+      }
+      operations.add(Aggregation.match(createdAt));
+    }
+    operations.add(Aggregation.group("customerType").count().as("count"));
+    operations.add(Aggregation.project("count").and("customerType").previousOperation());
+
+    return mongoTemplate.aggregate(Aggregation.newAggregation(Customer.class, operations),
+      CustomerTypeCount.class);
+  }
+
+  @Override
+  public Flux<CustomerDailyCount> countByCreatedDayAndType() {
+    return mongoTemplate.aggregate(Aggregation.newAggregation(Customer.class,
+        Aggregation.match(Criteria.where("createdAt").ne(null)),
+        Aggregation.project("customerType")
+          .and(DateOperators.dateOf("createdAt").toString("%Y-%m-%d")).as("day"),
+        Aggregation.group("day", "customerType").count().as("count"),
+        Aggregation.project("day", "customerType", "count")),
+      CustomerDailyCount.class);
+  }
+
+  private Query byId(String id) {
+    return Query.query(Criteria.where("_id").is(id));
+  }
+
+  private void setOrUnset(Update update, String field, Object value) {
+    if (value != null) {
+      update.set(field, value);
+    } else {
+      update.unset(field);
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package com.bank.customer.repository;
+
+import com.bank.customer.model.MonthlySummaryRecord;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+/**
+ * Repositorio reactivo de los resúmenes mensuales precalculados.
+ */
+public interface MonthlySummaryRepository
+    extends ReactiveMongoRepository<MonthlySummaryRecord, String>,
+    MonthlySummaryRepositoryCustom {
+}
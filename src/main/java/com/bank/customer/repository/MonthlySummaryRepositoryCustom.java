@@ -0,0 +1,27 @@
+package com.bank.customer.repository;
+
+import com.bank.customer.model.MonthlySummaryRecord;
+import reactor.core.publisher.Mono;
+
+/**
+ * Operaciones personalizadas sobre los resúmenes mensuales precalculados.
+ * Las escrituras nunca modifican un período cerrado.
+ */
+public interface MonthlySummaryRepositoryCustom {
+
+  /**
+   * Guarda el resumen de un período si el período sigue abierto.
+   *
+   * @param record el resumen a guardar
+   * @return Mono con true si se guardó, o false si el período ya estaba cerrado
+   */
+  Mono<Boolean> saveIfOpen(MonthlySummaryRecord record);
+
+  /**
+   * Cierra todos los resúmenes de los períodos anteriores a uno dado.
+   *
+   * @param period el primer período que sigue abierto, en formato yyyy-MM
+   * @return Mono con la cantidad de resúmenes cerrados
+   */
+  Mono<Long> closePeriodsBefore(String period);
+}
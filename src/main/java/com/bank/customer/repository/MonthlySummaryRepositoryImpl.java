@@ -0,0 +1,47 @@
+package com.bank.customer.repository;
+
+import com.bank.customer.model.MonthlySummaryRecord;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementación de las operaciones personalizadas de los resúmenes mensuales.
+ * El upsert filtra por período abierto: sobre un período cerrado el filtro no
+ * coincide, el upsert intenta insertar un ID existente y MongoDB lo rechaza
+ * como clave duplicada, por lo que el documento cerrado queda intacto.
+ */
+@RequiredArgsConstructor
+public class MonthlySummaryRepositoryImpl implements MonthlySummaryRepositoryCustom {
+
+  private final ReactiveMongoTemplate mongoTemplate;
+
+  @Override
+  public Mono<Boolean> saveIfOpen(MonthlySummaryRecord record) {
+    Query query = Query.query(Criteria.where("_id").is(record.getId())
+        .and("closed").ne(true));
+    Update update = new Update()
+        .set("customerId", record.getCustomerId())
+        .set("period", record.getPeriod())
+        .set("closed", false)
+        .set("summary", record.getSummary())
+        .set("generatedAt", record.getGeneratedAt());
+    return mongoTemplate.upsert(query, update, MonthlySummaryRecord.class)
+      .thenReturn(true)
+      .onErrorReturn(DuplicateKeyException.class, false);
+  }
+
+  @Override
+  public Mono<Long> closePeriodsBefore(String period) {
+    Query query = Query.query(Criteria.where("closed").is(false)
+        .and("period").lt(period));
+    return mongoTemplate.updateMulti(query, new Update().set("closed", true),
+        MonthlySummaryRecord.class)
+      .map(UpdateResult::getModifiedCount);
+  }
+}
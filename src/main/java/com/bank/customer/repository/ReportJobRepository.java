@@ -0,0 +1,30 @@
+package com.bank.customer.repository;
+
+import com.bank.customer.model.ReportJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Repositorio reactivo de los trabajos de reporte.
+ */
+public interface ReportJobRepository extends ReactiveMongoRepository<ReportJob, String>,
+    ReportJobRepositoryCustom {
+
+  /**
+   * Busca el trabajo activo de una petición.
+   *
+   * @param activeKey la clave de la petición
+   * @return Mono con el trabajo pendiente o en ejecución, o vacío si no existe
+   */
+  Mono<ReportJob> findByActiveKey(String activeKey);
+
+  /**
+   * Obtiene una página de trabajos.
+   *
+   * @param pageable tamaño de página y orden
+   * @return Flux con los trabajos de la página
+   */
+  Flux<ReportJob> findAllBy(Pageable pageable);
+}
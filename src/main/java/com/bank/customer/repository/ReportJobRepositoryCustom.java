@@ -0,0 +1,68 @@
+package com.bank.customer.repository;
+
+import com.bank.customer.model.ProductReportResponse;
+import java.time.Instant;
+import java.util.Collection;
+import reactor.core.publisher.Mono;
+
+/**
+ * Transiciones de estado de los trabajos de reporte.
+ * Cada transición es una actualización atómica del documento del trabajo.
+ */
+public interface ReportJobRepositoryCustom {
+
+  /**
+   * Marca un trabajo en espera como en ejecución.
+   *
+   * @param id el ID del trabajo
+   * @return Mono con true si el trabajo estaba en espera y pasó a ejecución
+   */
+  Mono<Boolean> markRunning(String id);
+
+  /**
+   * Renueva la última actualización de los trabajos activos indicados, para
+   * que no se consideren abandonados mientras esta instancia los conserve.
+   *
+   * @param ids los IDs de los trabajos en espera o en ejecución
+   * @return Mono vacío que indica completación
+   */
+  Mono<Void> heartbeat(Collection<String> ids);
+
+  /**
+   * Actualiza el avance de un trabajo; el avance nunca retrocede.
+   *
+   * @param id el ID del trabajo
+   * @param progress el porcentaje completado
+   * @return Mono vacío que indica completación
+   */
+  Mono<Void> updateProgress(String id, int progress);
+
+  /**
+   * Marca un trabajo en ejecución como completado y guarda su reporte.
+   * No modifica trabajos que ya terminaron.
+   *
+   * @param id el ID del trabajo
+   * @param result el reporte generado
+   * @return Mono vacío que indica completación
+   */
+  Mono<Void> complete(String id, ProductReportResponse result);
+
+  /**
+   * Marca un trabajo activo como fallido. No modifica trabajos que ya terminaron.
+   *
+   * @param id el ID del trabajo
+   * @param error el motivo de la falla
+   * @return Mono vacío que indica completación
+   */
+  Mono<Void> fail(String id, String error);
+
+  /**
+   * Marca como fallidos los trabajos activos cuyo latido venció, por ejemplo
+   * los que quedaron a medias por un reinicio de la instancia que los tenía.
+   *
+   * @param updatedBefore el instante límite de la última actualización
+   * @param excludedIds los trabajos que conserva la instancia actual
+   * @return Mono con la cantidad de trabajos marcados
+   */
+  Mono<Long> failStale(Instant updatedBefore, Collection<String> excludedIds);
+}
@@ -0,0 +1,95 @@
+package com.bank.customer.repository;
+
+import com.bank.customer.model.ProductReportResponse;
+import com.bank.customer.model.ReportJob;
+import com.mongodb.client.result.UpdateResult;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementación de las transiciones de estado de los trabajos de reporte.
+ * Usa ReactiveMongoTemplate para emitir actualizaciones atómicas. Cada
+ * transición se condiciona al estado de origen, de modo que un trabajo que ya
+ * terminó no vuelve a cambiar.
+ */
+@RequiredArgsConstructor
+public class ReportJobRepositoryImpl implements ReportJobRepositoryCustom {
+
+  private final ReactiveMongoTemplate mongoTemplate;
+
+  @Override
+  public Mono<Boolean> markRunning(String id) {
+    Instant now = Instant.now();
+    return mongoTemplate.updateFirst(byIdAndStatus(id, ReportJob.QUEUED), new Update()
+        .set("status", ReportJob.RUNNING)
+        .set("startedAt", now)
+        .set("updatedAt", now), ReportJob.class)
+      .map(result -> result.getModifiedCount() > 0);
+  }
+
+  @Override
+  public Mono<Void> heartbeat(Collection<String> ids) {
+    if (ids.isEmpty()) {
+      return Mono.empty();
+    }
+    Query query = Query.query(Criteria.where("_id").in(ids)
+        .and("status").in(ReportJob.QUEUED, ReportJob.RUNNING));
+    return mongoTemplate.updateMulti(query, new Update().set("updatedAt", Instant.now()),
+        ReportJob.class)
+      .then();
+  }
+
+  @Override
+  public Mono<Void> updateProgress(String id, int progress) {
+    return update(byIdAndStatus(id, ReportJob.RUNNING), new Update()
+        .max("progress", progress)
+        .set("updatedAt", Instant.now()));
+  }
+
+  @Override
+  public Mono<Void> complete(String id, ProductReportResponse result) {
+    return update(byIdAndStatus(id, ReportJob.RUNNING), finished(ReportJob.COMPLETED)
+        .set("progress", 100)
+        .set("result", result));
+  }
+
+  @Override
+  public Mono<Void> fail(String id, String error) {
+    return update(byIdAndStatus(id, ReportJob.QUEUED, ReportJob.RUNNING),
+        finished(ReportJob.FAILED).set("error", error));
+  }
+
+  @Override
+  public Mono<Long> failStale(Instant updatedBefore, Collection<String> excludedIds) {
+    Query query = Query.query(Criteria.where("status").in(ReportJob.QUEUED, ReportJob.RUNNING)
+        .and("updatedAt").lt(updatedBefore)
+        .and("_id").nin(excludedIds));
+    return mongoTemplate.updateMulti(query,
+        finished(ReportJob.FAILED).set("error", "Job interrupted"), ReportJob.class)
+      .map(UpdateResult::getModifiedCount);
+  }
+
+  private Update finished(String status) {
+    Instant now = Instant.now();
+    return new Update()
+        .set("status", status)
+        .set("completedAt", now)
+        .set("updatedAt", now)
+        .unset("activeKey");
+  }
+
+  private Query byIdAndStatus(String id, String... statuses) {
+    return Query.query(Criteria.where("_id").is(id).and("status").in(Arrays.asList(statuses)));
+  }
+
+  private Mono<Void> update(Query query, Update update) {
+    return mongoTemplate.updateFirst(query, update, ReportJob.class).then();
+  }
+}
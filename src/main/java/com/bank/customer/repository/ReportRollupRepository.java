@@ -0,0 +1,11 @@
+package com.bank.customer.repository;
+
+import com.bank.customer.model.ReportRollup;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+/**
+ * Repositorio reactivo de los contadores diarios del reporte de productos.
+ */
+public interface ReportRollupRepository extends ReactiveMongoRepository<ReportRollup, String>,
+    ReportRollupRepositoryCustom {
+}
@@ -0,0 +1,84 @@
+package com.bank.customer.repository;
+
+import com.bank.customer.model.ReportRollup;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Operaciones personalizadas sobre los contadores diarios del reporte.
+ * Las escrituras son upserts atómicos sobre el documento del día.
+ */
+public interface ReportRollupRepositoryCustom {
+
+  /**
+   * Suma un delta al contador de clientes de un tipo en un día.
+   *
+   * @param day el día en formato ISO
+   * @param customerType el tipo de cliente
+   * @param delta la cantidad a sumar, negativa para bajas
+   * @return Mono vacío que indica completación
+   */
+  Mono<Void> incrementCustomers(String day, String customerType, long delta);
+
+  /**
+   * Reemplaza los contadores de clientes de un día.
+   *
+   * @param day el día en formato ISO
+   * @param customersByType la cantidad de clientes por tipo
+   * @return Mono vacío que indica completación
+   */
+  Mono<Void> replaceCustomers(String day, Map<String, Long> customersByType);
+
+  /**
+   * Quita los contadores de clientes de los días que no están en la lista.
+   *
+   * @param days los días que conservan sus contadores de clientes
+   * @return Mono vacío que indica completación
+   */
+  Mono<Void> clearCustomersExcept(Collection<String> days);
+
+  /**
+   * Obtiene el momento de la última reconstrucción completa de los contadores
+   * de clientes.
+   *
+   * @return Mono con el momento, o vacío si nunca se completó
+   */
+  Mono<Instant> findCustomersRebuiltAt();
+
+  /**
+   * Registra que los contadores de clientes se reconstruyeron por completo.
+   *
+   * @param rebuiltAt el momento en que comenzó la reconstrucción
+   * @return Mono vacío que indica completación
+   */
+  Mono<Void> markCustomersRebuilt(Instant rebuiltAt);
+
+  /**
+   * Guarda la foto de productos y los totales de transacciones de un día,
+   * sin modificar sus contadores de clientes.
+   *
+   * @param snapshot los campos de productos y transacciones del día
+   * @return Mono vacío que indica completación
+   */
+  Mono<Void> saveSnapshot(ReportRollup snapshot);
+
+  /**
+   * Obtiene los contadores de un rango de días.
+   *
+   * @param from el primer día, inclusivo, o null para no limitar
+   * @param to el último día, inclusivo
+   * @return Flux con los contadores ordenados por día
+   */
+  Flux<ReportRollup> findDays(String from, String to);
+
+  /**
+   * Obtiene el último día con foto de productos hasta un día dado.
+   *
+   * @param to el último día, inclusivo
+   * @return Mono con los contadores de ese día, o vacío si no hay fotos
+   */
+  Mono<ReportRollup> findLatestSnapshot(String to);
+}
@@ -0,0 +1,98 @@
+package com.bank.customer.repository;
+
+import com.bank.customer.model.ReportRollup;
+import com.bank.customer.model.ReportRollupState;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementación de las operaciones personalizadas de los contadores diarios.
+ * Usa ReactiveMongoTemplate para emitir upserts con $inc y $set.
+ */
+@RequiredArgsConstructor
+public class ReportRollupRepositoryImpl implements ReportRollupRepositoryCustom {
+
+  private final ReactiveMongoTemplate mongoTemplate;
+
+  @Override
+  public Mono<Void> incrementCustomers(String day, String customerType, long delta) {
+    return mongoTemplate.upsert(byDay(day),
+        new Update().inc("customersByType." + customerType, delta), ReportRollup.class)
+      .then();
+  }
+
+  @Override
+  public Mono<Void> replaceCustomers(String day, Map<String, Long> customersByType) {
+    return mongoTemplate.upsert(byDay(day),
+        new Update().set("customersByType", customersByType), ReportRollup.class)
+      .then();
+  }
+
+  @Override
+  public Mono<Void> clearCustomersExcept(Collection<String> days) {
+    Query query = Query.query(Criteria.where("_id").nin(days).and("customersByType").exists(true));
+    return mongoTemplate.updateMulti(query, new Update().unset("customersByType"),
+        ReportRollup.class)
+      .then();
+  }
+
+  @Override
+  public Mono<Instant> findCustomersRebuiltAt() {
+    return mongoTemplate.findById(ReportRollupState.CUSTOMERS, ReportRollupState.class)
+      .filter(state -> state.getRebuiltAt() != null)
+      .map(ReportRollupState::getRebuiltAt);
+  }
+
+  @Override
+  public Mono<Void> markCustomersRebuilt(Instant rebuiltAt) {
+    return mongoTemplate.upsert(Query.query(Criteria.where("_id").is(ReportRollupState.CUSTOMERS)),
+        new Update().set("rebuiltAt", rebuiltAt), ReportRollupState.class)
+      .then();
+  }
+
+  @Override
+  public Mono<Void> saveSnapshot(ReportRollup snapshot) {
+    Update update = new Update()
+        .set("accountsByType", snapshot.getAccountsByType())
+        .set("accountBalanceSum", snapshot.getAccountBalanceSum())
+        .set("creditsByType", snapshot.getCreditsByType())
+        .set("outstandingSum", snapshot.getOutstandingSum())
+        .set("interestRateSum", snapshot.getInterestRateSum())
+        .set("transactionCount", snapshot.getTransactionCount())
+        .set("transactionsByType", snapshot.getTransactionsByType())
+        .set("transactionsByProduct", snapshot.getTransactionsByProduct())
+        .set("snapshotAt", snapshot.getSnapshotAt());
+    return mongoTemplate.upsert(byDay(snapshot.getDay()), update, ReportRollup.class)
+      .then();
+  }
+
+  @Override
+  public Flux<ReportRollup> findDays(String from, String to) {
+    Criteria day = Criteria.where("_id").lte(to);
+    if (from != null) {
+      day.gte(from);
+    }
+    return mongoTemplate.find(Query.query(day).with(Sort.by("_id")), ReportRollup.class);
+  }
+
+  @Override
+  public Mono<ReportRollup> findLatestSnapshot(String to) {
+    Query query = Query.query(Criteria.where("_id").lte(to).and("snapshotAt").ne(null))
+        .with(Sort.by(Sort.Direction.DESC, "_id"))
+        .limit(1);
+    return mongoTemplate.findOne(query, ReportRollup.class);
+  }
+
+  private Query byDay(String day) {
+    return Query.query(Criteria.where("_id").is(day));
+  }
+}
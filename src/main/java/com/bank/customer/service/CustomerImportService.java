@@ -0,0 +1,22 @@
+package com.bank.customer.service;
+
+import com.bank.customer.model.CustomerImportResult;
+import com.bank.customer.service.bulk.ImportFormat;
+import reactor.core.publisher.Flux;
+
+/**
+ * Interfaz de servicio para la carga masiva de clientes.
+ */
+public interface CustomerImportService {
+
+  /**
+   * Importa los clientes de un archivo leído línea a línea.
+   * Los registros se validan uno a uno y se insertan por lotes; se emite un
+   * resultado por cada registro en el orden del archivo.
+   *
+   * @param lines las líneas del archivo
+   * @param format el formato del archivo
+   * @return Flux con el resultado de cada registro
+   */
+  Flux<CustomerImportResult> importCustomers(Flux<String> lines, ImportFormat format);
+}
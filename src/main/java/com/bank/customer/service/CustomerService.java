@@ -1,11 +1,18 @@
 package com.bank.customer.service;
 
 import com.bank.customer.model.ConsolidatedSummary;
+import com.bank.customer.model.CustomerBatchGetRequest;
+import com.bank.customer.model.CustomerBatchGetResponse;
 import com.bank.customer.model.CustomerMonthlySummary;
+import com.bank.customer.model.CustomerPage;
 import com.bank.customer.model.CustomerRequest;
 import com.bank.customer.model.CustomerResponse;
 import com.bank.customer.model.ProductReportRequest;
 import com.bank.customer.model.ProductReportResponse;
+import com.bank.customer.service.report.ReportProgress;
+import com.bank.customer.service.report.SummarySection;
+import java.time.YearMonth;
+import java.util.Set;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -21,6 +28,22 @@ public interface CustomerService {
    */
   Flux<CustomerResponse> findAll();
 
+  /**
+   * Obtiene una página de clientes ordenada por ID usando un cursor.
+   *
+   * @param cursor el ID del último cliente de la página anterior, o null
+   * @param limit el tamaño máximo de la página, o null para el valor por defecto
+   * @return Mono con la página y el cursor de la siguiente
+   */
+  Mono<CustomerPage> findPage(String cursor, Integer limit);
+
+  /**
+   * Emite todos los clientes respetando la demanda del consumidor.
+   *
+   * @return Flux de CustomerResponse limitado por la demanda
+   */
+  Flux<CustomerResponse> streamAll();
+
   /**
    * Busca un cliente por su ID.
    *
@@ -37,6 +60,16 @@ public interface CustomerService {
    */
   Mono<CustomerResponse> findByDocumentNumber(String documentNumber);
 
+  /**
+   * Busca varios clientes por ID o número de documento en una sola consulta.
+   * La respuesta conserva el orden de las claves pedidas y marca las que no
+   * corresponden a ningún cliente.
+   *
+   * @param request las claves a buscar y el campo por el que se buscan
+   * @return Mono con un elemento por cada clave pedida
+   */
+  Mono<CustomerBatchGetResponse> batchGet(CustomerBatchGetRequest request);
+
   /**
    * Crea un nuevo cliente en el sistema.
    *
@@ -63,20 +96,43 @@ public interface CustomerService {
   Mono<Void> delete(String id);
 
   /**
-   * Genera un resumen mensual para un cliente.
+   * Obtiene el resumen mensual del período en curso para un cliente.
+   * Se sirve el resumen precalculado y solo se calcula en vivo si no existe
+   * uno reciente.
    *
    * @param customerId el ID del cliente
    * @return Mono con el resumen mensual del cliente
    */
   Mono<CustomerMonthlySummary> generateMonthlySummary(String customerId);
 
+  /**
+   * Calcula en vivo el resumen mensual del período en curso para un cliente,
+   * consultando los servicios de cuentas y créditos.
+   *
+   * @param customerId el ID del cliente
+   * @return Mono con el resumen mensual del cliente
+   */
+  Mono<CustomerMonthlySummary> computeMonthlySummary(String customerId);
+
+  /**
+   * Busca el resumen mensual guardado de un cliente en un período.
+   *
+   * @param customerId el ID del cliente
+   * @param period el período
+   * @return Mono con el resumen, o vacío si no existe
+   */
+  Mono<CustomerMonthlySummary> findMonthlySummary(String customerId, YearMonth period);
+
   /**
    * Obtiene un resumen consolidado de productos para un cliente.
+   * Solo se consultan los servicios externos que necesitan las secciones pedidas.
    *
    * @param customerId el ID del cliente
+   * @param sections las secciones del resumen a construir
    * @return Mono con el resumen consolidado
    */
-  Mono<ConsolidatedSummary> getConsolidatedSummary(String customerId);
+  Mono<ConsolidatedSummary> getConsolidatedSummary(String customerId,
+                                                   Set<SummarySection> sections);
 
   /**
    * Genera un reporte de productos para un período específico.
@@ -85,4 +141,14 @@ public interface CustomerService {
    * @return Mono con el reporte de productos generado
    */
   Mono<ProductReportResponse> generateProductReport(ProductReportRequest request);
+
+  /**
+   * Genera un reporte de productos informando su avance.
+   *
+   * @param request los parámetros del reporte (fechas, etc.)
+   * @param progress receptor del avance de la generación
+   * @return Mono con el reporte de productos generado
+   */
+  Mono<ProductReportResponse> generateProductReport(ProductReportRequest request,
+                                                    ReportProgress progress);
 }
\ No newline at end of file
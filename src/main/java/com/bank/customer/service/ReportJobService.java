@@ -0,0 +1,37 @@
+package com.bank.customer.service;
+
+import com.bank.customer.model.ProductReportRequest;
+import com.bank.customer.model.ReportJobResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Interfaz de servicio para los trabajos asíncronos del reporte de productos.
+ */
+public interface ReportJobService {
+
+  /**
+   * Crea un trabajo de reporte y lo encola sin esperar a que termine.
+   * Si ya existe un trabajo activo para una petición idéntica, se devuelve ese.
+   *
+   * @param request los parámetros del reporte
+   * @return Mono con el trabajo creado o el activo existente
+   */
+  Mono<ReportJobResponse> submit(ProductReportRequest request);
+
+  /**
+   * Busca un trabajo de reporte por su ID.
+   *
+   * @param id el ID del trabajo
+   * @return Mono con el trabajo y su reporte si ya terminó
+   */
+  Mono<ReportJobResponse> findById(String id);
+
+  /**
+   * Lista los trabajos más recientes sin sus reportes.
+   *
+   * @param limit la cantidad máxima de trabajos, o null para el valor por defecto
+   * @return Flux con los trabajos ordenados del más reciente al más antiguo
+   */
+  Flux<ReportJobResponse> findRecent(Integer limit);
+}
@@ -0,0 +1,117 @@
+package com.bank.customer.service.bulk;
+
+import com.bank.customer.model.CustomerRequest;
+import com.bank.customer.model.CustomerTypeEnum;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Convierte las líneas de un archivo de importación en peticiones de alta.
+ * En CSV la primera línea es la cabecera con los nombres de los campos de
+ * {@link CustomerRequest}; en NDJSON cada línea es un objeto JSON.
+ * Cada instancia lee un solo archivo y debe usarse de forma secuencial.
+ */
+public class CustomerRecordParser {
+
+  private final ImportFormat format;
+  private final ObjectMapper objectMapper;
+  private List<String> header;
+
+  public CustomerRecordParser(ImportFormat format, ObjectMapper objectMapper) {
+    this.format = format;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Lee una línea no vacía del archivo.
+   *
+   * @param line el número de línea, empezando en 1
+   * @param text el contenido de la línea
+   * @return el registro leído, o null si la línea es la cabecera CSV
+   */
+  public ImportRecord parse(long line, String text) {
+    if (format == ImportFormat.NDJSON) {
+      try {
+        return ImportRecord.parsed(line, objectMapper.readValue(text, CustomerRequest.class));
+      } catch (JsonProcessingException ex) {
+        return ImportRecord.invalid(line, "Malformed JSON record: " + ex.getOriginalMessage());
+      }
+    }
+    if (header == null) {
+      header = split(text);
+      return null;
+    }
+    List<String> values = split(text);
+    if (values.size() != header.size()) {
+      return ImportRecord.invalid(line,
+        "Expected " + header.size() + " columns but found " + values.size());
+    }
+    try {
+      return ImportRecord.parsed(line, toRequest(values));
+    } catch (IllegalArgumentException ex) {
+      return ImportRecord.invalid(line, ex.getMessage());
+    }
+  }
+
+  private CustomerRequest toRequest(List<String> values) {
+    CustomerRequest request = new CustomerRequest();
+    for (int i = 0; i < header.size(); i++) {
+      String value = values.get(i).isEmpty() ? null : values.get(i);
+      switch (header.get(i)) {
+        case "documentType":
+          request.setDocumentType(value);
+          break;
+        case "documentNumber":
+          request.setDocumentNumber(value);
+          break;
+        case "firstName":
+          request.setFirstName(value);
+          break;
+        case "lastName":
+          request.setLastName(value);
+          break;
+        case "email":
+          request.setEmail(value);
+          break;
+        case "phone":
+          request.setPhone(value);
+          break;
+        case "customerType":
+          request.setCustomerType(value != null ? CustomerTypeEnum.fromValue(value) : null);
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown column: " + header.get(i));
+      }
+    }
+    return request;
+  }
+
+  /**
+   * Separa una línea CSV respetando los valores entre comillas dobles.
+   */
+  static List<String> split(String text) {
+    List<String> values = new ArrayList<>();
+    StringBuilder current = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '"') {
+        if (quoted && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+          current.append('"');
+          i++;
+        } else {
+          quoted = !quoted;
+        }
+      } else if (c == ',' && !quoted) {
+        values.add(current.toString().trim());
+        current.setLength(0);
+      } else {
+        current.append(c);
+      }
+    }
+    values.add(current.toString().trim());
+    return values;
+  }
+}
@@ -0,0 +1,38 @@
+package com.bank.customer.service.bulk;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Formatos aceptados por la carga masiva de clientes.
+ */
+public enum ImportFormat {
+
+  NDJSON(MediaType.APPLICATION_NDJSON),
+  CSV(new MediaType("text", "csv"));
+
+  private final MediaType mediaType;
+
+  ImportFormat(MediaType mediaType) {
+    this.mediaType = mediaType;
+  }
+
+  public MediaType getMediaType() {
+    return mediaType;
+  }
+
+  /**
+   * Obtiene el formato que corresponde a un tipo de contenido.
+   *
+   * @param contentType el tipo de contenido de la petición
+   * @return el formato de importación
+   * @throws IllegalArgumentException si el tipo de contenido no es soportado
+   */
+  public static ImportFormat of(MediaType contentType) {
+    for (ImportFormat format : values()) {
+      if (contentType != null && format.mediaType.isCompatibleWith(contentType)) {
+        return format;
+      }
+    }
+    throw new IllegalArgumentException("Unsupported import content type: " + contentType);
+  }
+}
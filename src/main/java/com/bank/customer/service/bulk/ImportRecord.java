@@ -0,0 +1,48 @@
+package com.bank.customer.service.bulk;
+
+import com.bank.customer.model.CustomerRequest;
+import lombok.Getter;
+
+/**
+ * Registro leído de un archivo de importación: la petición de alta o el
+ * motivo por el que no pudo leerse.
+ */
+@Getter
+public final class ImportRecord {
+
+  private final long line;
+  private final CustomerRequest request;
+  private final String error;
+
+  private ImportRecord(long line, CustomerRequest request, String error) {
+    this.line = line;
+    this.request = request;
+    this.error = error;
+  }
+
+  public static ImportRecord parsed(long line, CustomerRequest request) {
+    return new ImportRecord(line, request, null);
+  }
+
+  public static ImportRecord invalid(long line, String error) {
+    return new ImportRecord(line, null, error);
+  }
+
+  /**
+   * Marca el registro como inválido conservando la petición leída.
+   *
+   * @param error el motivo por el que el registro no es válido
+   * @return el registro inválido
+   */
+  public ImportRecord withError(String error) {
+    return new ImportRecord(line, request, error);
+  }
+
+  public boolean isValid() {
+    return error == null;
+  }
+
+  public String getDocumentNumber() {
+    return request != null ? request.getDocumentNumber() : null;
+  }
+}
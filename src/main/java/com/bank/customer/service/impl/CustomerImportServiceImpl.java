@@ -0,0 +1,153 @@
+package com.bank.customer.service.impl;
+
+import static com.bank.customer.metrics.ReactiveMetrics.SERVICE_TIMER;
+
+import com.bank.customer.mapper.CustomerMapper;
+import com.bank.customer.metrics.ReactiveMetrics;
+import com.bank.customer.model.Customer;
+import com.bank.customer.model.CustomerImportResult;
+import com.bank.customer.model.CustomerImportStatusEnum;
+import com.bank.customer.repository.CustomerRepository;
+import com.bank.customer.service.CustomerImportService;
+import com.bank.customer.service.bulk.CustomerRecordParser;
+import com.bank.customer.service.bulk.ImportFormat;
+import com.bank.customer.service.bulk.ImportRecord;
+import com.bank.customer.service.report.ReportRollupStore;
+import com.bank.customer.util.ValidationHelper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementación de la carga masiva de clientes.
+ * Lee el archivo como un flujo de líneas, valida cada registro con
+ * {@link ValidationHelper} y agrupa los válidos en lotes que se insertan con un
+ * insertMany no ordenado. Se procesa un lote a la vez, de modo que la memoria
+ * usada depende del tamaño de lote y no del tamaño del archivo.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CustomerImportServiceImpl implements CustomerImportService {
+
+  private static final int DUPLICATE_KEY_CODE = 11000;
+
+  private final CustomerMapper mapper;
+  private final ValidationHelper validationHelper;
+  private final CustomerRepository repo;
+  private final ObjectMapper objectMapper;
+  private final ReactiveMetrics reactiveMetrics;
+  private final ReportRollupStore reportRollupStore;
+
+  @Value("${customer.import.batch-size:500}")
+  private int batchSize;
+
+  @Override
+  public Flux<CustomerImportResult> importCustomers(Flux<String> lines, ImportFormat format) {
+    return Flux.defer(() -> {
+      CustomerRecordParser parser = new CustomerRecordParser(format, objectMapper);
+      return lines.index()
+        .filter(line -> !line.getT2().trim().isEmpty())
+        .<ImportRecord>handle((line, sink) -> {
+          ImportRecord parsed = parser.parse(line.getT1() + 1, line.getT2());
+          if (parsed != null) {
+            sink.next(parsed);
+          }
+        });
+    })
+      .concatMap(this::validate)
+      .buffer(Math.max(1, batchSize))
+      .concatMap(this::insertBatch, 1)
+      .doOnComplete(() -> log.info("Customer import completed"))
+      .doOnError(error -> log.error("Error importing customers: {}", error.getMessage(), error))
+      .transform(reactiveMetrics.fluxTimer(SERVICE_TIMER, "method", "importCustomers"));
+  }
+
+  private Mono<ImportRecord> validate(ImportRecord record) {
+    if (!record.isValid()) {
+      return Mono.just(record);
+    }
+    return validationHelper.validateAsync(record.getRequest())
+      .thenReturn(record)
+      .onErrorResume(WebExchangeBindException.class, ex -> Mono.just(record.withError(
+        ex.getFieldErrors().stream()
+          .map(error -> error.getField() + ": " + error.getDefaultMessage())
+          .collect(Collectors.joining("; ")))));
+  }
+
+  private Flux<CustomerImportResult> insertBatch(List<ImportRecord> batch) {
+    List<ImportRecord> valid = new ArrayList<>();
+    List<Customer> customers = new ArrayList<>();
+    for (ImportRecord record : batch) {
+      if (record.isValid()) {
+        Customer customer = mapper.toEntity(record.getRequest());
+        customer.setCreatedAt(Instant.now());
+        valid.add(record);
+        customers.add(customer);
+      }
+    }
+    Mono<Map<Integer, Integer>> inserted = customers.isEmpty()
+        ? Mono.just(Map.of())
+        : repo.insertUnordered(customers);
+
+    return inserted
+      .flatMap(failed -> reportRollupStore.recordCreated(IntStream.range(0, customers.size())
+          .filter(index -> !failed.containsKey(index))
+          .mapToObj(customers::get)
+          .collect(Collectors.toList()))
+        .thenReturn(failed))
+      .map(failed -> {
+        List<CustomerImportResult> results = new ArrayList<>(batch.size());
+        int index = 0;
+        for (ImportRecord record : batch) {
+          if (!record.isValid()) {
+            results.add(result(record, CustomerImportStatusEnum.INVALID, null, record.getError()));
+            continue;
+          }
+          Integer code = failed.get(index);
+          if (code == null) {
+            results.add(result(record, CustomerImportStatusEnum.CREATED,
+                customers.get(index).getId(), null));
+          } else if (code == DUPLICATE_KEY_CODE) {
+            results.add(result(record, CustomerImportStatusEnum.DUPLICATE, null,
+                "Customer with document number already exists"));
+          } else {
+            results.add(result(record, CustomerImportStatusEnum.FAILED, null,
+                "Write error code " + code));
+          }
+          index++;
+        }
+        return results;
+      })
+      .onErrorResume(ex -> {
+        log.error("Error inserting import batch: {}", ex.getMessage(), ex);
+        return Mono.just(batch.stream()
+          .map(record -> record.isValid()
+            ? result(record, CustomerImportStatusEnum.FAILED, null, "Batch insert failed")
+            : result(record, CustomerImportStatusEnum.INVALID, null, record.getError()))
+          .collect(Collectors.toList()));
+      })
+      .flatMapIterable(results -> results);
+  }
+
+  private CustomerImportResult result(ImportRecord record, CustomerImportStatusEnum status,
+                                      String id, String message) {
+    return new CustomerImportResult()
+      .line(record.getLine())
+      .documentNumber(record.getDocumentNumber())
+      .status(status)
+      .id(id)
+      .message(message);
+  }
+}
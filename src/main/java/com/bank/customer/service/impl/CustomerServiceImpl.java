@@ -1,47 +1,79 @@
 package com.bank.customer.service.impl;
 
+import static com.bank.customer.metrics.ReactiveMetrics.REPORT_TIMER;
+import static com.bank.customer.metrics.ReactiveMetrics.SERVICE_TIMER;
+
+import com.bank.customer.cache.ConsolidatedSummaryCache;
+import com.bank.customer.cache.CustomerCache;
+import com.bank.customer.cache.LastKnownGoodCache;
 import com.bank.customer.client.AccountServiceClient;
 import com.bank.customer.client.CreditServiceClient;
+import com.bank.customer.client.DownstreamGuard;
 import com.bank.customer.client.TransactionServiceClient;
+import com.bank.customer.exception.DuplicateResourceException;
 import com.bank.customer.exception.ResourceNotFoundException;
 import com.bank.customer.mapper.CustomerMapper;
-import com.bank.customer.model.AccountDetail;
-import com.bank.customer.model.AccountMetrics;
+import com.bank.customer.metrics.ReactiveMetrics;
 import com.bank.customer.model.AccountSummary;
-import com.bank.customer.model.AccountTypeEnum;
 import com.bank.customer.model.ConsolidatedSummary;
-import com.bank.customer.model.CreditDetail;
-import com.bank.customer.model.CreditMetrics;
 import com.bank.customer.model.CreditSummary;
-import com.bank.customer.model.CreditTypeEnum;
 import com.bank.customer.model.Customer;
-import com.bank.customer.model.CustomerMetrics;
+import com.bank.customer.model.CustomerBatchGetItem;
+import com.bank.customer.model.CustomerBatchGetRequest;
+import com.bank.customer.model.CustomerBatchGetResponse;
+import com.bank.customer.model.CustomerLookupKeyEnum;
 import com.bank.customer.model.CustomerMonthlySummary;
+import com.bank.customer.model.CustomerPage;
 import com.bank.customer.model.CustomerRequest;
 import com.bank.customer.model.CustomerResponse;
-import com.bank.customer.model.CustomerTypeEnum;
 import com.bank.customer.model.ProductReportRequest;
 import com.bank.customer.model.ProductReportResponse;
-import com.bank.customer.model.ProductsOverview;
-import com.bank.customer.model.ReportSummary;
-import com.bank.customer.model.TransactionDetail;
+import com.bank.customer.model.ReportSourceEnum;
+import com.bank.customer.model.SectionStatusEnum;
 import com.bank.customer.model.response.AccountResponse;
 import com.bank.customer.model.response.CreditResponse;
 import com.bank.customer.model.response.TransactionResponse;
 import com.bank.customer.repository.CustomerRepository;
 import com.bank.customer.service.CustomerService;
+import com.bank.customer.service.report.LatencyBudget;
+import com.bank.customer.service.report.MonthlySummaryStore;
+import com.bank.customer.service.report.ProductReportAggregator;
+import com.bank.customer.service.report.ReportAssembler;
+import com.bank.customer.service.report.ReportExecutor;
+import com.bank.customer.service.report.ReportPlan;
+import com.bank.customer.service.report.ReportProgress;
+import com.bank.customer.service.report.ReportRollupStore;
+import com.bank.customer.service.report.SectionResult;
+import com.bank.customer.service.report.SummarySection;
 import com.bank.customer.util.ValidationHelper;
+import io.netty.handler.timeout.ReadTimeoutException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.time.YearMonth;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -61,6 +93,32 @@ public class CustomerServiceImpl implements CustomerService {
   private final AccountServiceClient accountServiceClient;
   private final CreditServiceClient creditServiceClient;
   private final TransactionServiceClient transactionServiceClient;
+  private final CustomerCache customerCache;
+  private final ConsolidatedSummaryCache consolidatedSummaryCache;
+  private final LastKnownGoodCache lastKnownGoodCache;
+  private final ReactiveMetrics reactiveMetrics;
+  private final ReportAssembler reportAssembler;
+  private final ReportExecutor reportExecutor;
+  private final ReportRollupStore reportRollupStore;
+  private final MonthlySummaryStore monthlySummaryStore;
+
+  @Value("${customer.pagination.default-limit:50}")
+  private int defaultPageLimit;
+
+  @Value("${customer.pagination.max-limit:500}")
+  private int maxPageLimit;
+
+  @Value("${customer.stream.rate-limit:256}")
+  private int streamRateLimit;
+
+  @Value("${customer.batch-get.max-keys:200}")
+  private int maxBatchKeys;
+
+  @Value("${customer.summary.budget-ms:1500}")
+  private long summaryBudgetMs;
+
+  @Value("${customer.summary.leg-share:0.8}")
+  private double summaryLegShare;
 
   /**
    * Obtiene todos los clientes del sistema.
@@ -72,7 +130,57 @@ public class CustomerServiceImpl implements CustomerService {
     return repo.findAll()
       .map(mapper::toResponse)
       .doOnComplete(() -> log.info("Retrieved all customers successfully"))
-      .doOnError(error -> log.error("Error retrieving customers: {}", error.getMessage(), error));
+      .doOnError(error -> log.error("Error retrieving customers: {}", error.getMessage(), error))
+      .transform(reactiveMetrics.fluxTimer(SERVICE_TIMER, "method", "findAll"));
+  }
+
+  /**
+   * Obtiene una página de clientes ordenada por ID usando un cursor.
+   *
+   * @param cursor el ID del último cliente de la página anterior, o null
+   * @param limit el tamaño máximo de la página, o null para el valor por defecto
+   * @return Mono con la página y el cursor de la siguiente
+   */
+  @Override
+  public Mono<CustomerPage> findPage(String cursor, Integer limit) {
+    int pageSize = Math.max(1, Math.min(limit != null ? limit : defaultPageLimit, maxPageLimit));
+    // Se pide un elemento extra para saber si existe una página siguiente
+    Pageable pageable = PageRequest.of(0, pageSize + 1, Sort.by("id"));
+    Flux<Customer> source = cursor == null
+        ? repo.findAllBy(pageable)
+        : repo.findByIdGreaterThan(cursor, pageable);
+
+    return source.collectList()
+      .map(customers -> {
+        boolean hasMore = customers.size() > pageSize;
+        List<Customer> items = hasMore ? customers.subList(0, pageSize) : customers;
+
+        CustomerPage page = new CustomerPage();
+        page.setItems(items.stream()
+            .map(mapper::toResponse)
+            .collect(Collectors.toList()));
+        page.setNextCursor(hasMore ? items.get(items.size() - 1).getId() : null);
+        return page;
+      })
+      .doOnSuccess(page -> log.info("Retrieved customer page after cursor: {}", cursor))
+      .doOnError(error -> log.error(
+        "Error retrieving customer page: {}", error.getMessage(), error))
+      .transform(reactiveMetrics.monoTimer(SERVICE_TIMER, "method", "findPage"));
+  }
+
+  /**
+   * Emite todos los clientes respetando la demanda del consumidor.
+   *
+   * @return Flux de CustomerResponse limitado por la demanda
+   */
+  @Override
+  public Flux<CustomerResponse> streamAll() {
+    return repo.findAll()
+      .limitRate(streamRateLimit)
+      .map(mapper::toResponse)
+      .doOnComplete(() -> log.info("Streamed all customers successfully"))
+      .doOnError(error -> log.error("Error streaming customers: {}", error.getMessage(), error))
+      .transform(reactiveMetrics.fluxTimer(SERVICE_TIMER, "method", "streamAll"));
   }
 
   /**
@@ -83,12 +191,13 @@ public class CustomerServiceImpl implements CustomerService {
    */
   @Override
   public Mono<CustomerResponse> findById(String id) {
-    return repo.findById(id)
+    return findCustomerById(id)
       .switchIfEmpty(Mono.error(new ResourceNotFoundException("Customer not found with id: " + id)))
       .map(mapper::toResponse)
       .doOnSuccess(response -> log.info("Retrieved customer successfully with id: {}", id))
       .doOnError(error -> log.error(
-        "Error retrieving customer with id {}: {}", id, error.getMessage(), error));
+        "Error retrieving customer with id {}: {}", id, error.getMessage(), error))
+      .transform(reactiveMetrics.monoTimer(SERVICE_TIMER, "method", "findById"));
   }
 
   /**
@@ -99,7 +208,7 @@ public class CustomerServiceImpl implements CustomerService {
    */
   @Override
   public Mono<CustomerResponse> findByDocumentNumber(String documentNumber) {
-    return repo.findByDocumentNumber(documentNumber)
+    return findCustomerByDocumentNumber(documentNumber)
       .switchIfEmpty(Mono.error(new ResourceNotFoundException(
         "Customer not found with document number: " + documentNumber)))
       .map(mapper::toResponse)
@@ -107,7 +216,71 @@ public class CustomerServiceImpl implements CustomerService {
         "Retrieved customer successfully with document: {}", documentNumber))
       .doOnError(error -> log.error(
         "Error retrieving customer with document {}: {}",
-        documentNumber, error.getMessage(), error));
+        documentNumber, error.getMessage(), error))
+      .transform(reactiveMetrics.monoTimer(SERVICE_TIMER, "method", "findByDocumentNumber"));
+  }
+
+  /**
+   * Busca varios clientes por ID o número de documento.
+   * Las claves presentes en caché no se consultan; el resto se resuelve con
+   * una sola consulta {@code $in} y los clientes leídos se guardan en caché.
+   *
+   * @param request las claves a buscar y el campo por el que se buscan
+   * @return Mono con un elemento por cada clave pedida, en el mismo orden
+   */
+  @Override
+  public Mono<CustomerBatchGetResponse> batchGet(CustomerBatchGetRequest request) {
+    List<String> keys = request.getKeys();
+    if (keys == null || keys.isEmpty() || keys.size() > maxBatchKeys) {
+      return Mono.error(new IllegalArgumentException(
+        "Batch must contain between 1 and " + maxBatchKeys + " keys"));
+    }
+    boolean byDocument = request.getBy() == CustomerLookupKeyEnum.DOCUMENT_NUMBER;
+    Function<String, Optional<Customer>> fromCache = byDocument
+        ? customerCache::getByDocumentNumber
+        : customerCache::getById;
+    Function<Customer, String> keyOf = byDocument ? Customer::getDocumentNumber : Customer::getId;
+
+    return Mono.defer(() -> {
+      Map<String, Customer> found = new HashMap<>();
+      Set<String> missing = new LinkedHashSet<>();
+      for (String key : keys) {
+        Optional<Customer> cached = fromCache.apply(key);
+        if (cached.isPresent()) {
+          found.put(key, cached.get());
+        } else {
+          missing.add(key);
+        }
+      }
+      if (missing.isEmpty()) {
+        return Mono.just(found);
+      }
+      long stamp = customerCache.evictionStamp();
+      Flux<Customer> loaded = byDocument
+          ? repo.findByDocumentNumberIn(missing)
+          : repo.findByIdIn(missing);
+      return loaded
+        .doOnNext(customer -> customerCache.putIfNotEvictedSince(customer, stamp))
+        .collect(() -> found, (map, customer) -> map.put(keyOf.apply(customer), customer));
+    })
+      .map(found -> {
+        CustomerBatchGetResponse response = new CustomerBatchGetResponse();
+        response.setItems(keys.stream()
+            .map(key -> {
+              Customer customer = found.get(key);
+              CustomerBatchGetItem item = new CustomerBatchGetItem();
+              item.setKey(key);
+              item.setFound(customer != null);
+              item.setCustomer(customer != null ? mapper.toResponse(customer) : null);
+              return item;
+            })
+            .collect(Collectors.toList()));
+        return response;
+      })
+      .doOnSuccess(response -> log.info("Retrieved batch of {} customers", keys.size()))
+      .doOnError(error -> log.error(
+        "Error retrieving customer batch: {}", error.getMessage(), error))
+      .transform(reactiveMetrics.monoTimer(SERVICE_TIMER, "method", "batchGet"));
   }
 
   /**
@@ -120,20 +293,20 @@ public class CustomerServiceImpl implements CustomerService {
   public Mono<CustomerResponse> create(CustomerRequest request) {
     return validationHelper.validateAsync(request)
       .map(mapper::toEntity)
-      .flatMap(customer -> repo.findByDocumentNumber(customer.getDocumentNumber())
-        .flatMap(existing -> Mono.<Customer>error(
-          new RuntimeException(
-            "Customer with document number already exists")))
-        .switchIfEmpty(Mono.defer(() -> {
-          customer.setCreatedAt(Instant.now());
-          return repo.save(customer);
-        }))
-      )
+      .flatMap(customer -> {
+        customer.setCreatedAt(Instant.now());
+        return repo.insert(customer);
+      })
+      .onErrorMap(DuplicateKeyException.class, ex -> new DuplicateResourceException(
+        "Customer with document number already exists"))
+      .flatMap(saved -> reportRollupStore.recordCreated(saved).thenReturn(saved))
+      .doOnNext(customerCache::put)
       .map(mapper::toResponse)
       .doOnSuccess(response -> log.info(
         "Customer created successfully with id: {}", response.getId()))
       .doOnError(error -> log.error(
-        "Error creating customer: {}", error.getMessage(), error));
+        "Error creating customer: {}", error.getMessage(), error))
+      .transform(reactiveMetrics.monoTimer(SERVICE_TIMER, "method", "create"));
   }
 
   /**
@@ -147,23 +320,27 @@ public class CustomerServiceImpl implements CustomerService {
   public Mono<CustomerResponse> update(String id, CustomerRequest request) {
     return validationHelper.validateAsync(request)
       .map(mapper::toEntity)
-      .flatMap(customer -> repo.findById(id)
+      .doOnNext(customer -> evictCaches(id))
+      .flatMap(customer -> repo.updateFields(id, customer)
         .switchIfEmpty(Mono.error(new ResourceNotFoundException(
           "Customer not found with ID " + id)))
-        .flatMap(existing -> {
-          existing.setFirstName(customer.getFirstName());
-          existing.setLastName(customer.getLastName());
-          existing.setEmail(customer.getEmail());
-          existing.setPhone(customer.getPhone());
-          existing.setCustomerType(customer.getCustomerType());
-          existing.setDocumentNumber(customer.getDocumentNumber());
-          return repo.save(existing);
+        .onErrorMap(DuplicateKeyException.class, ex -> new DuplicateResourceException(
+          "Customer with document number already exists"))
+        .flatMap(previous -> {
+          // updateFields devuelve el documento previo; los campos no editables se conservan
+          customer.setId(id);
+          customer.setDocumentType(previous.getDocumentType());
+          customer.setCreatedAt(previous.getCreatedAt());
+          return reportRollupStore.recordTypeChanged(previous, customer.getCustomerType())
+            .thenReturn(customer);
         }))
+      .doOnNext(saved -> evictCaches(id))
       .map(mapper::toResponse)
       .doOnSuccess(response -> log.info(
         "Customer updated successfully with id: {}", id))
       .doOnError(error -> log.error(
-        "Error updating customer with id {}: {}", id, error.getMessage(), error));
+        "Error updating customer with id {}: {}", id, error.getMessage(), error))
+      .transform(reactiveMetrics.monoTimer(SERVICE_TIMER, "method", "update"));
   }
 
   /**
@@ -174,32 +351,82 @@ public class CustomerServiceImpl implements CustomerService {
    */
   @Override
   public Mono<Void> delete(String id) {
-    return repo.findById(id)
-      .switchIfEmpty(Mono.error(new ResourceNotFoundException(
-        "Customer not found with ID " + id)))
-      .flatMap(repo::delete)
-      .doOnSuccess(unused -> log.info(
-        "Customer deleted successfully with id: {}", id))
+    return Mono.defer(() -> {
+      evictCaches(id);
+      return repo.findAndRemoveById(id);
+    })
+      .switchIfEmpty(Mono.error(new ResourceNotFoundException("Customer not found with ID " + id)))
+      .flatMap(reportRollupStore::recordDeleted)
+      .doOnSuccess(unused -> {
+        evictCaches(id);
+        log.info("Customer deleted successfully with id: {}", id);
+      })
       .doOnError(error -> log.error(
-        "Error deleting customer with id {}: {}", id, error.getMessage(), error));
+        "Error deleting customer with id {}: {}", id, error.getMessage(), error))
+      .transform(reactiveMetrics.monoTimer(SERVICE_TIMER, "method", "delete"));
   }
 
   /**
-   * Genera un resumen mensual para un cliente.
+   * Obtiene el resumen mensual del período en curso para un cliente.
+   * Se sirve el resumen precalculado; si no existe uno reciente se calcula en
+   * vivo y, si está completo, se guarda para las siguientes consultas.
    *
    * @param customerId el ID del cliente
    * @return Mono con el resumen mensual del cliente
    */
   @Override
   public Mono<CustomerMonthlySummary> generateMonthlySummary(String customerId) {
+    YearMonth period = MonthlySummaryStore.currentPeriod();
+    return monthlySummaryStore.find(customerId, period)
+      .doOnNext(summary -> log.debug("Serving stored monthly summary for customer: {}",
+          customerId))
+      .switchIfEmpty(Mono.defer(() -> computeMonthlySummary(customerId)
+        .flatMap(summary -> MonthlySummaryStore.isComplete(summary)
+          ? monthlySummaryStore.save(customerId, period, summary)
+            .onErrorResume(ex -> {
+              log.warn("Error storing monthly summary for customer {}: {}",
+                  customerId, ex.getMessage());
+              return Mono.empty();
+            })
+            .thenReturn(summary)
+          : Mono.just(summary))))
+      .transform(reactiveMetrics.monoTimer(SERVICE_TIMER, "method", "generateMonthlySummary"));
+  }
+
+  /**
+   * Busca el resumen mensual guardado de un cliente en un período.
+   *
+   * @param customerId el ID del cliente
+   * @param period el período
+   * @return Mono con el resumen, o vacío si no existe
+   */
+  @Override
+  public Mono<CustomerMonthlySummary> findMonthlySummary(String customerId, YearMonth period) {
+    return monthlySummaryStore.find(customerId, period);
+  }
+
+  /**
+   * Calcula en vivo el resumen mensual para un cliente.
+   * Las llamadas externas se limitan al presupuesto de latencia; las que no
+   * responden a tiempo se marcan como parciales en el resumen.
+   *
+   * @param customerId el ID del cliente
+   * @return Mono con el resumen mensual del cliente
+   */
+  @Override
+  public Mono<CustomerMonthlySummary> computeMonthlySummary(String customerId) {
     log.info("Generating monthly summary for customer: {}", customerId);
 
-    return Mono.zip(
-      accountServiceClient.getCustomerAccountsWithDailyBalances(customerId).collectList(),
-      creditServiceClient.getCustomerCreditsWithDailyBalances(customerId).collectList()
-    ).map(tuple -> {
-      List<AccountSummary> accounts = tuple.getT1();
-      List<CreditSummary> credits = tuple.getT2();
+    return Mono.defer(() -> {
+      Duration timeout = startSummaryBudget().legTimeout();
+      return Mono.zip(
+        fetchSection("account-daily-balances", customerId,
+          accountServiceClient.getCustomerAccountsWithDailyBalances(customerId), timeout),
+        fetchSection("credit-daily-balances", customerId,
+          creditServiceClient.getCustomerCreditsWithDailyBalances(customerId), timeout));
+    }).map(tuple -> {
+      List<AccountSummary> accounts = tuple.getT1().getItems();
+      List<CreditSummary> credits = tuple.getT2().getItems();
 
       // Calcular promedio total
       double totalDailyAverage = calculateTotalDailyAverage(accounts, credits);
@@ -211,180 +438,212 @@ public class CustomerServiceImpl implements CustomerService {
       summary.setTotalDailyAverage(totalDailyAverage);
       summary.setAccountSummaries(accounts);
       summary.setCreditSummaries(credits);
+      summary.setAccountsStatus(tuple.getT1().getStatus());
+      summary.setCreditsStatus(tuple.getT2().getStatus());
       summary.setGeneratedAt(OffsetDateTime.now());
 
       return summary;
-    });
+    })
+      .transform(reactiveMetrics.monoTimer(SERVICE_TIMER, "method", "computeMonthlySummary"));
   }
 
   /**
    * Obtiene un resumen consolidado de productos para un cliente.
+   * El resumen completo pasa por la caché; un resumen parcial se toma de la
+   * caché solo si está fresca y, si no, consulta únicamente los servicios
+   * que necesitan las secciones pedidas.
    *
    * @param customerId el ID del cliente
+   * @param sections las secciones del resumen a construir
    * @return Mono con el resumen consolidado
    */
   @Override
-  public Mono<ConsolidatedSummary> getConsolidatedSummary(String customerId) {
-    log.info("Generating consolidated summary for customer: {}", customerId);
-
-    return repo.findById(customerId)
-      .switchIfEmpty(Mono.error(new RuntimeException(
-        "Customer not found with id: " + customerId)))
-      .flatMap(customer ->
-        Mono.zip(
-          accountServiceClient.getCustomerAccounts(customerId).collectList(),
-          creditServiceClient.getCustomerCredits(customerId).collectList(),
-          transactionServiceClient.getRecentTransactions(customerId).collectList()
-        ).map(tuple -> buildConsolidatedSummary(
-          customer, tuple.getT1(), tuple.getT2(), tuple.getT3()))
-      );
+  public Mono<ConsolidatedSummary> getConsolidatedSummary(String customerId,
+                                                          Set<SummarySection> sections) {
+    Mono<ConsolidatedSummary> summary;
+    if (sections.containsAll(EnumSet.allOf(SummarySection.class))) {
+      summary = consolidatedSummaryCache.get(customerId,
+        () -> loadConsolidatedSummary(customerId, sections));
+    } else {
+      summary = Mono.justOrEmpty(consolidatedSummaryCache.getIfFresh(customerId))
+        .map(cached -> reportAssembler.selectSections(cached, sections))
+        .switchIfEmpty(Mono.defer(() -> loadConsolidatedSummary(customerId, sections)));
+    }
+    return summary
+      .transform(reactiveMetrics.monoTimer(SERVICE_TIMER, "method", "getConsolidatedSummary"));
+  }
+
+  private Mono<ConsolidatedSummary> loadConsolidatedSummary(String customerId,
+                                                            Set<SummarySection> sections) {
+    log.info("Generating consolidated summary for customer: {} sections: {}",
+        customerId, sections);
+
+    return Mono.defer(() -> {
+      LatencyBudget budget = startSummaryBudget();
+      return findCustomerById(customerId)
+        .switchIfEmpty(Mono.error(new ResourceNotFoundException(
+          "Customer not found with id: " + customerId)))
+        .flatMap(customer -> {
+          Duration timeout = budget.legTimeout();
+          Mono<SectionResult<AccountResponse>> accounts = SummarySection.needsAccounts(sections)
+              ? fetchSection("accounts", customerId,
+                accountServiceClient.getCustomerAccounts(customerId), timeout)
+              : Mono.just(SectionResult.<AccountResponse>skipped());
+          Mono<SectionResult<CreditResponse>> credits = SummarySection.needsCredits(sections)
+              ? fetchSection("credits", customerId,
+                creditServiceClient.getCustomerCredits(customerId), timeout)
+              : Mono.just(SectionResult.<CreditResponse>skipped());
+          Mono<SectionResult<TransactionResponse>> transactions =
+              SummarySection.needsTransactions(sections)
+                ? fetchSection("transactions", customerId,
+                  transactionServiceClient.getRecentTransactions(customerId), timeout)
+                : Mono.just(SectionResult.<TransactionResponse>skipped());
+
+          return Mono.zip(accounts, credits, transactions)
+            .flatMap(tuple -> reportExecutor.assemble(() -> {
+              ConsolidatedSummary summary = reportAssembler.buildConsolidatedSummary(customer,
+                  tuple.getT1().getItems(), tuple.getT2().getItems(), tuple.getT3().getItems(),
+                  sections);
+              summary.setAccountsStatus(tuple.getT1().getStatus());
+              summary.setCreditsStatus(tuple.getT2().getStatus());
+              summary.setTransactionsStatus(tuple.getT3().getStatus());
+              return summary;
+            }));
+        });
+    });
+  }
+
+  private LatencyBudget startSummaryBudget() {
+    return LatencyBudget.start(Duration.ofMillis(summaryBudgetMs), summaryLegShare);
+  }
+
+  private <T> Mono<SectionResult<T>> fetchSection(String section, String customerId,
+                                                  Flux<T> source, Duration timeout) {
+    String key = section + ":" + customerId;
+    return source.collectList()
+      .timeout(timeout)
+      .doOnNext(items -> lastKnownGoodCache.put(key, items))
+      .map(SectionResult::ok)
+      .onErrorResume(DownstreamGuard::isRejected, ex -> Mono.justOrEmpty(
+          lastKnownGoodCache.<T>get(key).map(SectionResult::stale))
+        .doOnNext(stale -> log.warn("Section {} for customer {} served stale: {}",
+          section, customerId, ex.getMessage()))
+        .switchIfEmpty(Mono.error(ex)))
+      .onErrorResume(ex -> {
+        SectionStatusEnum status = isTimeout(ex) ? SectionStatusEnum.TIMEOUT
+            : SectionStatusEnum.ERROR;
+        log.warn("Section {} for customer {} returned partial: {}", section, customerId, status);
+        return Mono.just(SectionResult.failed(status));
+      });
+  }
+
+  private boolean isTimeout(Throwable ex) {
+    for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+      if (cause instanceof TimeoutException || cause instanceof ReadTimeoutException) {
+        return true;
+      }
+    }
+    return false;
   }
 
   /**
    * Genera un reporte de productos para un período específico.
+   * Por defecto suma los contadores diarios; si aún no existen, o si se pide
+   * el modo de verificación, recorre clientes y productos completos.
    *
    * @param request los parámetros del reporte (fechas, etc.)
    * @return Mono con el reporte de productos generado
    */
   @Override
   public Mono<ProductReportResponse> generateProductReport(ProductReportRequest request) {
-    log.info("Generating product report from {} to {}",
-        request.getStartDate(), request.getEndDate());
-
-    String startDateStr = request.getStartDate().toString();
-    String endDateStr = request.getEndDate().toString();
-
-    return Mono.zip(
-      repo.findAll().collectList(),
-      accountServiceClient.getAllAccounts().collectList(),
-      creditServiceClient.getAllCredits().collectList(),
-      transactionServiceClient.getTransactionsByDateRange(
-        startDateStr, endDateStr
-      ).collectList()
-    ).map(tuple -> buildProductReport(
-      request, tuple.getT1(), tuple.getT2(), tuple.getT3(), tuple.getT4()));
-  }
-
-  private ProductReportResponse buildProductReport(ProductReportRequest request,
-                                                   List<Customer> customers,
-                                                   List<AccountResponse> accounts,
-                                                   List<CreditResponse> credits,
-                                                   List<TransactionResponse> transactions) {
-
-    ProductReportResponse response = new ProductReportResponse();
-    response.setPeriod(buildPeriodString(request));
-    response.setGeneratedAt(OffsetDateTime.now());
-    response.setSummary(buildReportSummary(customers, accounts, credits, transactions));
-    response.setAccountMetrics(buildAccountMetrics(accounts));
-    response.setCreditMetrics(buildCreditMetrics(credits));
-    response.setCustomerMetrics(buildCustomerMetrics(customers, accounts, credits));
-
-    return response;
+    return generateProductReport(request, ReportProgress.NONE);
   }
 
-  private ReportSummary buildReportSummary(List<Customer> customers,
-                                           List<AccountResponse> accounts,
-                                           List<CreditResponse> credits,
-                                           List<TransactionResponse> transactions) {
-
-    long activeCustomers = customers.size();
-
-    double totalBalance = accounts.stream()
-        .mapToDouble(AccountResponse::getBalance)
-        .sum();
-
-    ReportSummary summary = new ReportSummary();
-    summary.setTotalCustomers(customers.size());
-    summary.setActiveCustomers((int) activeCustomers);
-    summary.setTotalAccounts(accounts.size());
-    summary.setTotalCredits(credits.size());
-    summary.setTotalBalance(totalBalance);
-    summary.setTotalTransactions(transactions.size());
-
-    return summary;
-  }
-
-  private AccountMetrics buildAccountMetrics(List<AccountResponse> accounts) {
-    Map<String, Long> accountsByTypeLong = accounts.stream()
-        .collect(Collectors.groupingBy(AccountResponse::getAccountType, Collectors.counting()));
-
-    double averageBalance = accounts.stream()
-        .mapToDouble(AccountResponse::getBalance)
-        .average()
-        .orElse(0.0);
-
-    AccountMetrics metrics = new AccountMetrics();
-    metrics.setTotalAccounts(accounts.size());
-    metrics.setByType(convertMapLongToInt(accountsByTypeLong));
-    metrics.setAverageBalance(averageBalance);
-    metrics.setNewAccounts(0);
-
-    return metrics;
+  /**
+   * Genera un reporte de productos informando su avance: los datos leídos
+   * representan el 60% y el ensamblado el 90%.
+   *
+   * @param request los parámetros del reporte (fechas, etc.)
+   * @param progress receptor del avance de la generación
+   * @return Mono con el reporte de productos generado
+   */
+  @Override
+  public Mono<ProductReportResponse> generateProductReport(ProductReportRequest request,
+                                                           ReportProgress progress) {
+    ReportPlan plan = ReportPlan.forType(request.getReportType());
+    log.info("Generating product report from {} to {} with type {} and source {}",
+        request.getStartDate(), request.getEndDate(), request.getReportType(),
+        request.getSource());
+
+    Mono<ProductReportAggregator> fromRollups = request.getSource() == ReportSourceEnum.FULL_SCAN
+        ? Mono.empty()
+        : reportRollupStore.load(request.getStartDate(), request.getEndDate(), plan)
+          .transform(reactiveMetrics.monoTimer(REPORT_TIMER, "phase", "rollup"));
+
+    return fromRollups
+      .switchIfEmpty(Mono.defer(() -> scanProductReport(request, plan)))
+      .doOnNext(aggregator -> progress.update(60))
+      .flatMap(aggregator -> reportExecutor.assemble(
+          () -> reportAssembler.buildProductReport(request, aggregator, plan))
+        .transform(reactiveMetrics.monoTimer(REPORT_TIMER, "phase", "build")))
+      .doOnNext(report -> progress.update(90))
+      .transform(reactiveMetrics.monoTimer(SERVICE_TIMER, "method", "generateProductReport"));
   }
 
-  private CreditMetrics buildCreditMetrics(List<CreditResponse> credits) {
-    Map<String, Long> creditsByTypeLong = credits.stream()
-        .collect(Collectors.groupingBy(CreditResponse::getCreditType, Collectors.counting()));
-
-    double totalOutstanding = credits.stream()
-        .mapToDouble(CreditResponse::getOutstandingBalance)
-        .sum();
-
-    double averageInterestRate = credits.stream()
-        .mapToDouble(CreditResponse::getInterestRate)
-        .average()
-        .orElse(0.0);
-
-    CreditMetrics metrics = new CreditMetrics();
-    metrics.setTotalCredits(credits.size());
-    metrics.setByType(convertMapLongToInt(creditsByTypeLong));
-    metrics.setTotalOutstanding(totalOutstanding);
-    metrics.setAverageInterestRate(averageInterestRate);
-
-    return metrics;
+  private Mono<ProductReportAggregator> scanProductReport(ProductReportRequest request,
+                                                          ReportPlan plan) {
+    String startDateStr = request.getStartDate().toString();
+    String endDateStr = request.getEndDate().toString();
+    // Clientes registrados hasta el fin del período (fecha fin inclusiva)
+    Instant periodEnd = request.getEndDate().plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+    ProductReportAggregator aggregator = new ProductReportAggregator();
+    List<Publisher<?>> fetches = new ArrayList<>();
+    if (plan.needs(ReportPlan.Source.CUSTOMERS)) {
+      fetches.add(repo.countByCustomerType(null, periodEnd)
+        .doOnNext(aggregator::acceptCustomerTypeCount));
+    }
+    if (plan.needs(ReportPlan.Source.ACCOUNTS)) {
+      fetches.add(accountServiceClient.getAllAccounts().doOnNext(aggregator::acceptAccount));
+    }
+    if (plan.needs(ReportPlan.Source.CREDITS)) {
+      fetches.add(creditServiceClient.getAllCredits().doOnNext(aggregator::acceptCredit));
+    }
+    if (plan.needs(ReportPlan.Source.TRANSACTIONS)) {
+      fetches.add(transactionServiceClient.getTransactionTotalsByDateRange(startDateStr, endDateStr)
+        .doOnNext(aggregator::acceptTransactionTotals));
+    }
+    return Mono.when(fetches)
+      .transform(reactiveMetrics.monoTimer(REPORT_TIMER, "phase", "fetch"))
+      .thenReturn(aggregator);
   }
 
-  private CustomerMetrics buildCustomerMetrics(List<Customer> customers,
-                                               List<AccountResponse> accounts,
-                                               List<CreditResponse> credits) {
-
-    Map<String, Long> customersByTypeLong = customers.stream()
-        .collect(Collectors.groupingBy(Customer::getCustomerType, Collectors.counting()));
-
-    // Calcular promedio de productos por cliente
-    Map<String, Long> accountsPerCustomer = accounts.stream()
-        .collect(Collectors.groupingBy(AccountResponse::getCustomerId, Collectors.counting()));
-
-    Map<String, Long> creditsPerCustomer = credits.stream()
-        .collect(Collectors.groupingBy(CreditResponse::getCustomerId, Collectors.counting()));
-
-    double avgProducts = customers.stream()
-        .mapToDouble(customer ->
-          accountsPerCustomer.getOrDefault(customer.getId(), 0L)
-            + creditsPerCustomer.getOrDefault(customer.getId(), 0L)
-        )
-        .average()
-        .orElse(0.0);
-
-    CustomerMetrics metrics = new CustomerMetrics();
-    metrics.setTotalCustomers(customers.size());
-    metrics.setByType(convertMapLongToInt(customersByTypeLong));
-    metrics.setAverageProductsPerCustomer(avgProducts);
-
-    return metrics;
+  private Mono<Customer> findCustomerById(String id) {
+    return Mono.justOrEmpty(customerCache.getById(id))
+      .switchIfEmpty(Mono.defer(() -> {
+        long stamp = customerCache.evictionStamp();
+        return repo.findById(id)
+          .doOnNext(customer -> customerCache.putIfNotEvictedSince(customer, stamp));
+      }));
   }
 
-  private String buildPeriodString(ProductReportRequest request) {
-    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd MMM yyyy");
-    return request.getStartDate() + " - " + request.getEndDate();
+  private Mono<Customer> findCustomerByDocumentNumber(String documentNumber) {
+    return Mono.justOrEmpty(customerCache.getByDocumentNumber(documentNumber))
+      .switchIfEmpty(Mono.defer(() -> {
+        long stamp = customerCache.evictionStamp();
+        return repo.findByDocumentNumber(documentNumber)
+          .doOnNext(customer -> customerCache.putIfNotEvictedSince(customer, stamp));
+      }));
   }
 
-  private Map<String, Integer> convertMapLongToInt(Map<String, Long> longMap) {
-    return longMap.entrySet().stream()
-      .collect(Collectors.toMap(
-        Map.Entry::getKey,
-        entry -> entry.getValue().intValue()
-      ));
+  /**
+   * Invalida las cachés de un cliente. Se llama antes de escribir, para no
+   * servir el documento anterior durante la escritura, y después, para
+   * descartar las lecturas que comenzaron antes de que terminara.
+   */
+  private void evictCaches(String id) {
+    customerCache.evict(id);
+    consolidatedSummaryCache.evict(id);
   }
 
   private double calculateTotalDailyAverage(
@@ -404,143 +663,4 @@ public class CustomerServiceImpl implements CustomerService {
     return LocalDateTime.now().format(DateTimeFormatter.ofPattern(
       "MMMM yyyy", new Locale("es", "ES"))).toUpperCase();
   }
-
-  private ConsolidatedSummary buildConsolidatedSummary(Customer customer,
-                                                       List<AccountResponse> accounts,
-                                                       List<CreditResponse> credits,
-                                                       List<TransactionResponse> transactions) {
-
-    Double totalBalance = calculateTotalBalance(accounts, credits);
-
-    ConsolidatedSummary consolidatedSummary = new ConsolidatedSummary();
-    consolidatedSummary.setCustomer(mapToCustomerResponse(customer));
-    consolidatedSummary.setSummaryDate(OffsetDateTime.now());
-    consolidatedSummary.setTotalBalance(totalBalance);
-    consolidatedSummary.setProductsOverview(buildProductsOverview(accounts, credits, transactions));
-    consolidatedSummary.setAccounts(mapToAccountDetails(accounts));
-    consolidatedSummary.setCredits(mapToCreditDetails(credits));
-    consolidatedSummary.setRecentTransactions(mapToTransactionDetails(transactions));
-
-    return consolidatedSummary;
-  }
-
-  private Double calculateTotalBalance(List<AccountResponse> accounts,
-                                       List<CreditResponse> credits) {
-    double accountBalance = accounts.stream()
-        .filter(account -> "ACTIVO".equals(account.getStatus()))
-        .mapToDouble(AccountResponse::getBalance)
-        .sum();
-
-    double creditBalance = credits.stream()
-        .filter(credit -> "ACTIVO".equals(credit.getStatus()))
-        .mapToDouble(credit -> {
-          // Para tarjetas de crédito, el availableCredit representa el saldo disponible
-          if ("TARJETA_CREDITO".equals(credit.getCreditType())) {
-            return credit.getCreditLimit() - credit.getAvailableCredit();
-          } else {
-            // Para préstamos, el outstandingBalance es la deuda
-            return -credit.getOutstandingBalance();
-          }
-        })
-        .sum();
-
-    return accountBalance + creditBalance;
-  }
-
-  private ProductsOverview buildProductsOverview(List<AccountResponse> accounts,
-                                                 List<CreditResponse> credits,
-                                                 List<TransactionResponse> transactions) {
-    ProductsOverview productsOverview = new ProductsOverview();
-    productsOverview.setTotalAccounts(accounts.size());
-    productsOverview.setTotalCredits(credits.size());
-    productsOverview.setTotalTransactions(transactions.size());
-    productsOverview.setActiveAccounts((int) accounts.stream().filter(
-        acc -> "ACTIVO".equals(acc.getStatus())).count());
-    productsOverview.setActiveCredits((int) credits.stream().filter(
-        cred -> "ACTIVO".equals(cred.getStatus())).count());
-
-    return productsOverview;
-  }
-
-  private List<AccountDetail> mapToAccountDetails(List<AccountResponse> accounts) {
-    return accounts.stream()
-      .map(this::mapToAccountDetail)
-      .collect(Collectors.toList());
-  }
-
-  private AccountDetail mapToAccountDetail(AccountResponse account) {
-    AccountDetail accountDetail = new AccountDetail();
-    accountDetail.setId(account.getId());
-    accountDetail.setAccountNumber(account.getAccountNumber());
-    accountDetail.setAccountType(AccountTypeEnum.valueOf(account.getAccountType()));
-    accountDetail.setCurrentBalance(account.getBalance());
-    accountDetail.setStatus(account.getStatus());
-
-    if (account.getCreatedAt() != null) {
-      accountDetail.setOpenedDate(account.getCreatedAt().atOffset(ZoneOffset.UTC));
-    }
-
-    return accountDetail;
-  }
-
-  private List<CreditDetail> mapToCreditDetails(List<CreditResponse> credits) {
-    return credits.stream()
-      .map(this::mapToCreditDetail)
-      .collect(Collectors.toList());
-  }
-
-  private CreditDetail mapToCreditDetail(CreditResponse credit) {
-    CreditDetail creditDetail = new CreditDetail();
-    creditDetail.setId(credit.getId());
-    creditDetail.setCreditNumber(credit.getCreditNumber());
-    creditDetail.setCreditType(CreditTypeEnum.valueOf(credit.getCreditType()));
-    creditDetail.setCurrentBalance(
-        "TARJETA_CREDITO".equals(credit.getCreditType())
-          ? credit.getCreditLimit() - credit.getAvailableCredit() :
-          -credit.getOutstandingBalance());
-    creditDetail.setCreditLimit(credit.getCreditLimit());
-    creditDetail.setAvailableCredit(credit.getAvailableCredit());
-    creditDetail.setInterestRate(credit.getInterestRate());
-    creditDetail.setStatus(credit.getStatus());
-
-    return creditDetail;
-  }
-
-  private List<TransactionDetail> mapToTransactionDetails(List<TransactionResponse> transactions) {
-    return transactions.stream()
-      .map(this::mapToTransactionDetail)
-      .collect(Collectors.toList());
-  }
-
-  private TransactionDetail mapToTransactionDetail(TransactionResponse transaction) {
-    TransactionDetail transactionDetail = new TransactionDetail();
-    transactionDetail.setId(transaction.getId());
-    transactionDetail.setTransactionType(transaction.getTransactionType());
-    transactionDetail.setAmount(transaction.getAmount());
-    transactionDetail.setDescription(transaction.getDescription());
-    transactionDetail.setTransactionDate(transaction.getTransactionDate());
-    transactionDetail.setProductType(transaction.getAccountId() != null ? "ACCOUNT" : "CREDIT");
-    transactionDetail.setProductNumber(""); // Puedes enriquecer esto si necesitas
-
-    return transactionDetail;
-  }
-
-  // Método para mapear Customer a CustomerResponse (ajusta según tu implementación existente)
-  private CustomerResponse mapToCustomerResponse(Customer customer) {
-    CustomerResponse customerResponse = new CustomerResponse();
-    customerResponse.setId(customer.getId());
-    customerResponse.setDocumentType(customer.getDocumentType());
-    customerResponse.setDocumentNumber(customer.getDocumentNumber());
-    customerResponse.setFirstName(customer.getFirstName());
-    customerResponse.setLastName(customer.getLastName());
-    customerResponse.setEmail(customer.getEmail());
-    customerResponse.setPhone(customer.getPhone());
-    customerResponse.setCustomerType(CustomerTypeEnum.valueOf(customer.getCustomerType()));
-    if (customer.getCreatedAt() != null) {
-      customerResponse.setCreatedAt(customer.getCreatedAt().atOffset(ZoneOffset.UTC));
-    }
-
-    return customerResponse;
-  }
-
-}
\ No newline at end of file
+}
@@ -0,0 +1,208 @@
+package com.bank.customer.service.impl;
+
+import com.bank.customer.exception.ResourceNotFoundException;
+import com.bank.customer.mapper.ReportJobMapper;
+import com.bank.customer.model.ProductReportRequest;
+import com.bank.customer.model.ReportJob;
+import com.bank.customer.model.ReportJobResponse;
+import com.bank.customer.repository.ReportJobRepository;
+import com.bank.customer.service.CustomerService;
+import com.bank.customer.service.ReportJobService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Implementación de los trabajos asíncronos del reporte de productos.
+ * Los trabajos se guardan en MongoDB y se ejecutan en un grupo acotado de
+ * trabajadores con una cola de espera acotada; cuando la cola está llena la
+ * petición se rechaza con {@link RejectedExecutionException}.
+ *
+ * <p>La deduplicación se apoya en el índice único disperso de activeKey: solo
+ * el primer alta de una petición idéntica se inserta y las demás reciben el
+ * trabajo activo existente.
+ *
+ * <p>Mientras una instancia conserva un trabajo (en su cola o en ejecución)
+ * renueva periódicamente su última actualización; solo los trabajos cuyo
+ * latido venció, porque la instancia que los tenía se detuvo, se marcan como
+ * fallidos.
+ */
+@Slf4j
+@Service
+public class ReportJobServiceImpl implements ReportJobService, DisposableBean {
+
+  private final ReportJobRepository jobRepository;
+  private final CustomerService customerService;
+  private final ReportJobMapper mapper;
+  private final Sinks.Many<ReportJob> queue;
+  private final Disposable workers;
+  private final Set<String> heldJobs = ConcurrentHashMap.newKeySet();
+
+  @Value("${customer.report.jobs.list-limit:20}")
+  private int defaultListLimit;
+
+  @Value("${customer.report.jobs.stale-after-minutes:30}")
+  private long staleAfterMinutes;
+
+  /**
+   * Crea el servicio e inicia los trabajadores.
+   *
+   * @param jobRepository repositorio de trabajos de reporte
+   * @param customerService servicio que genera los reportes
+   * @param mapper mapper de trabajos a DTO
+   * @param workerCount cantidad de reportes que se generan en paralelo
+   * @param queueCapacity cantidad máxima de trabajos en espera
+   */
+  public ReportJobServiceImpl(ReportJobRepository jobRepository,
+                              CustomerService customerService,
+                              ReportJobMapper mapper,
+                              @Value("${customer.report.jobs.workers:2}") int workerCount,
+                              @Value("${customer.report.jobs.queue-capacity:32}")
+                              int queueCapacity) {
+    this.jobRepository = jobRepository;
+    this.customerService = customerService;
+    this.mapper = mapper;
+    this.queue = Sinks.many().unicast()
+      .onBackpressureBuffer(new ArrayBlockingQueue<>(queueCapacity));
+    this.workers = queue.asFlux()
+      .flatMap(this::run, workerCount)
+      .subscribe();
+    log.info("Report job workers initialized with workers={} queueCapacity={}",
+        workerCount, queueCapacity);
+  }
+
+  @Override
+  public Mono<ReportJobResponse> submit(ProductReportRequest request) {
+    return submitJob(request, requestKey(request)).map(mapper::toResponse);
+  }
+
+  @Override
+  public Mono<ReportJobResponse> findById(String id) {
+    return jobRepository.findById(id)
+      .switchIfEmpty(Mono.error(new ResourceNotFoundException("Report job not found: " + id)))
+      .map(mapper::toResponse);
+  }
+
+  @Override
+  public Flux<ReportJobResponse> findRecent(Integer limit) {
+    int size = Math.max(1, limit != null ? limit : defaultListLimit);
+    return jobRepository.findAllBy(PageRequest.of(0, size,
+        Sort.by(Sort.Direction.DESC, "createdAt")))
+      .map(mapper::toSummary);
+  }
+
+  /**
+   * Renueva la última actualización de los trabajos que conserva esta instancia.
+   */
+  @Scheduled(fixedDelayString = "${customer.report.jobs.heartbeat-ms:30000}")
+  public void heartbeatJobs() {
+    jobRepository.heartbeat(List.copyOf(heldJobs))
+      .subscribe(null, ex -> log.warn("Error renewing report job heartbeats: {}",
+        ex.getMessage()));
+  }
+
+  /**
+   * Marca como fallidos los trabajos activos cuyo latido venció, por ejemplo
+   * por un reinicio de la instancia que los ejecutaba. Los trabajos que
+   * conserva esta instancia no se tocan.
+   */
+  @Scheduled(fixedDelayString = "${customer.report.jobs.stale-check-ms:60000}")
+  public void failStaleJobs() {
+    jobRepository.failStale(Instant.now().minus(Duration.ofMinutes(staleAfterMinutes)),
+        List.copyOf(heldJobs))
+      .filter(count -> count > 0)
+      .subscribe(
+        count -> log.warn("Marked {} stale report jobs as failed", count),
+        ex -> log.error("Error failing stale report jobs: {}", ex.getMessage(), ex));
+  }
+
+  @Override
+  public void destroy() {
+    workers.dispose();
+  }
+
+  private Mono<ReportJob> submitJob(ProductReportRequest request, String key) {
+    return Mono.defer(() -> {
+      Instant now = Instant.now();
+      return jobRepository.insert(ReportJob.builder()
+        .requestKey(key)
+        .activeKey(key)
+        .status(ReportJob.QUEUED)
+        .request(request)
+        .createdAt(now)
+        .updatedAt(now)
+        .build());
+    })
+      .flatMap(this::enqueue)
+      .onErrorResume(DuplicateKeyException.class, ex -> {
+        log.info("Report job already active for {}", key);
+        return jobRepository.findByActiveKey(key)
+          // el trabajo activo terminó entre el alta y la búsqueda
+          .switchIfEmpty(Mono.defer(() -> submitJob(request, key)));
+      });
+  }
+
+  private Mono<ReportJob> enqueue(ReportJob job) {
+    Sinks.EmitResult result;
+    heldJobs.add(job.getId());
+    synchronized (queue) {
+      result = queue.tryEmitNext(job);
+    }
+    if (result.isSuccess()) {
+      return Mono.just(job);
+    }
+    heldJobs.remove(job.getId());
+    log.warn("Report job queue full, rejecting job {}", job.getId());
+    return jobRepository.fail(job.getId(), "Report job queue full")
+      .then(Mono.error(new RejectedExecutionException("Report job queue full")));
+  }
+
+  private Mono<Void> run(ReportJob job) {
+    String id = job.getId();
+    return jobRepository.markRunning(id)
+      .flatMap(marked -> {
+        if (!marked) {
+          log.warn("Report job {} is no longer queued, skipping", id);
+          return Mono.<Void>empty();
+        }
+        return customerService.generateProductReport(job.getRequest(),
+          percent -> jobRepository.updateProgress(id, percent).subscribe(
+            null, ex -> log.warn("Error updating report job {} progress: {}", id,
+              ex.getMessage())))
+          .flatMap(result -> jobRepository.complete(id, result))
+          .doOnSuccess(unused -> log.info("Report job {} completed", id));
+      })
+      .onErrorResume(ex -> {
+        log.error("Report job {} failed: {}", id, ex.getMessage(), ex);
+        return jobRepository.fail(id, ex.getMessage());
+      })
+      .onErrorResume(ex -> {
+        log.error("Error recording report job {} outcome: {}", id, ex.getMessage(), ex);
+        return Mono.empty();
+      })
+      .doFinally(signal -> heldJobs.remove(id));
+  }
+
+  private static String requestKey(ProductReportRequest request) {
+    return request.getStartDate() + "|" + request.getEndDate() + "|"
+      + Objects.toString(request.getReportType(), "") + "|"
+      + Objects.toString(request.getSource(), "");
+  }
+}
@@ -0,0 +1,40 @@
+package com.bank.customer.service.report;
+
+import java.time.Duration;
+
+/**
+ * Presupuesto de latencia de una petición.
+ * Fija un plazo absoluto al iniciarse y reparte el tiempo restante entre las
+ * llamadas a servicios externos, reservando el resto para el ensamblado.
+ */
+public final class LatencyBudget {
+
+  private final long deadlineNanos;
+  private final double legShare;
+
+  private LatencyBudget(long deadlineNanos, double legShare) {
+    this.deadlineNanos = deadlineNanos;
+    this.legShare = legShare;
+  }
+
+  /**
+   * Inicia un presupuesto a partir del instante actual.
+   *
+   * @param total la latencia total permitida
+   * @param legShare fracción del tiempo restante asignada a cada llamada externa
+   * @return el presupuesto iniciado
+   */
+  public static LatencyBudget start(Duration total, double legShare) {
+    return new LatencyBudget(System.nanoTime() + total.toNanos(), legShare);
+  }
+
+  /**
+   * Tiempo disponible para una llamada externa que empieza ahora.
+   *
+   * @return el timeout de la llamada, nunca negativo
+   */
+  public Duration legTimeout() {
+    long remaining = Math.max(0, deadlineNanos - System.nanoTime());
+    return Duration.ofNanos((long) (remaining * legShare));
+  }
+}
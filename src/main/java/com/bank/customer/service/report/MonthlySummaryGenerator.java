@@ -0,0 +1,93 @@
+package com.bank.customer.service.report;
+
+import com.bank.customer.model.Customer;
+import com.bank.customer.repository.CustomerRepository;
+import com.bank.customer.service.CustomerService;
+import java.time.YearMonth;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Generador programado de los resúmenes mensuales de todos los clientes.
+ * Cierra los períodos anteriores y recalcula el período en curso de cada
+ * cliente con un paralelismo acotado, para no saturar los servicios de
+ * cuentas y créditos.
+ *
+ * <p>Los servicios externos solo entregan los balances del mes en curso, por
+ * lo que un período cerrado conserva el último resumen calculado dentro del mes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MonthlySummaryGenerator {
+
+  private final CustomerRepository customerRepository;
+  private final CustomerService customerService;
+  private final MonthlySummaryStore store;
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  @Value("${customer.monthly-summary.enabled:true}")
+  private boolean enabled;
+
+  @Value("${customer.monthly-summary.parallelism:8}")
+  private int parallelism;
+
+  /**
+   * Genera los resúmenes según el cron configurado; una corrida no se inicia
+   * mientras la anterior siga en curso.
+   */
+  @Scheduled(cron = "${customer.monthly-summary.cron:0 0 2 * * *}", zone = "UTC")
+  public void generateScheduled() {
+    if (!enabled) {
+      return;
+    }
+    if (!running.compareAndSet(false, true)) {
+      log.warn("Monthly summary generation still running, skipping this run");
+      return;
+    }
+    generateAll()
+      .doFinally(signal -> running.set(false))
+      .subscribe(
+        count -> log.info("Generated {} monthly summaries", count),
+        ex -> log.error("Error generating monthly summaries: {}", ex.getMessage(), ex));
+  }
+
+  /**
+   * Cierra los períodos anteriores y recalcula el período en curso de todos
+   * los clientes. Los resúmenes parciales o fallidos se omiten y conservan el
+   * último resumen guardado.
+   *
+   * @return Mono con la cantidad de resúmenes guardados
+   */
+  public Mono<Long> generateAll() {
+    YearMonth period = MonthlySummaryStore.currentPeriod();
+    return store.closePeriodsBefore(period)
+      .doOnNext(closed -> {
+        if (closed > 0) {
+          log.info("Closed {} monthly summaries before {}", closed, period);
+        }
+      })
+      .thenMany(customerRepository.findAll())
+      .map(Customer::getId)
+      .flatMap(customerId -> generate(customerId, period), parallelism)
+      .filter(Boolean::booleanValue)
+      .count();
+  }
+
+  private Mono<Boolean> generate(String customerId, YearMonth period) {
+    return customerService.computeMonthlySummary(customerId)
+      .filter(MonthlySummaryStore::isComplete)
+      .flatMap(summary -> store.save(customerId, period, summary))
+      .defaultIfEmpty(false)
+      .onErrorResume(ex -> {
+        log.warn("Error generating monthly summary for customer {}: {}", customerId,
+            ex.getMessage());
+        return Mono.just(false);
+      });
+  }
+}
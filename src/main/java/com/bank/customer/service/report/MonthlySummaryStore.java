@@ -0,0 +1,118 @@
+package com.bank.customer.service.report;
+
+import com.bank.customer.model.CustomerMonthlySummary;
+import com.bank.customer.model.MonthlySummaryRecord;
+import com.bank.customer.model.SectionStatusEnum;
+import com.bank.customer.repository.MonthlySummaryRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Almacén de los resúmenes mensuales precalculados por cliente y período.
+ * El período en curso se sirve mientras su resumen sea reciente; los períodos
+ * cerrados son historial inmutable y se sirven siempre.
+ *
+ * <p>Las fallas de lectura se registran y se tratan como ausencia del resumen,
+ * de modo que el cálculo en vivo siga disponible.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MonthlySummaryStore {
+
+  private final MonthlySummaryRepository repository;
+
+  @Value("${customer.monthly-summary.enabled:true}")
+  private boolean enabled;
+
+  @Value("${customer.monthly-summary.max-age-hours:36}")
+  private long maxAgeHours;
+
+  /**
+   * Obtiene el período en curso en UTC.
+   *
+   * @return el mes actual
+   */
+  public static YearMonth currentPeriod() {
+    return YearMonth.now(ZoneOffset.UTC);
+  }
+
+  /**
+   * Indica si un resumen se armó con todas sus secciones; los resúmenes
+   * parciales no se guardan.
+   *
+   * @param summary el resumen calculado
+   * @return true si ninguna sección quedó parcial
+   */
+  public static boolean isComplete(CustomerMonthlySummary summary) {
+    return isOk(summary.getAccountsStatus()) && isOk(summary.getCreditsStatus());
+  }
+
+  /**
+   * Busca el resumen guardado de un cliente en un período. Un período abierto
+   * solo se devuelve si su resumen no supera la antigüedad máxima.
+   *
+   * @param customerId el ID del cliente
+   * @param period el período
+   * @return Mono con el resumen, o vacío si no existe o está desactualizado
+   */
+  public Mono<CustomerMonthlySummary> find(String customerId, YearMonth period) {
+    if (!enabled) {
+      return Mono.empty();
+    }
+    Instant freshAfter = Instant.now().minus(Duration.ofHours(maxAgeHours));
+    return repository.findById(MonthlySummaryRecord.idOf(customerId, period.toString()))
+      .filter(record -> record.isClosed()
+          || (record.getGeneratedAt() != null && record.getGeneratedAt().isAfter(freshAfter)))
+      .map(MonthlySummaryRecord::getSummary)
+      .onErrorResume(ex -> {
+        log.warn("Error reading monthly summary for customer {}: {}", customerId,
+            ex.getMessage());
+        return Mono.empty();
+      });
+  }
+
+  /**
+   * Guarda el resumen de un cliente en un período abierto.
+   *
+   * @param customerId el ID del cliente
+   * @param period el período
+   * @param summary el resumen calculado
+   * @return Mono con true si se guardó, o false si el período ya estaba cerrado
+   */
+  public Mono<Boolean> save(String customerId, YearMonth period,
+                            CustomerMonthlySummary summary) {
+    if (!enabled) {
+      return Mono.just(false);
+    }
+    return repository.saveIfOpen(MonthlySummaryRecord.builder()
+        .id(MonthlySummaryRecord.idOf(customerId, period.toString()))
+        .customerId(customerId)
+        .period(period.toString())
+        .summary(summary)
+        .generatedAt(Instant.now())
+        .build());
+  }
+
+  /**
+   * Cierra los resúmenes de los períodos anteriores a uno dado, conservando
+   * el último resumen calculado de cada uno.
+   *
+   * @param period el período en curso
+   * @return Mono con la cantidad de resúmenes cerrados
+   */
+  public Mono<Long> closePeriodsBefore(YearMonth period) {
+    return repository.closePeriodsBefore(period.toString());
+  }
+
+  private static boolean isOk(SectionStatusEnum status) {
+    return status == null || status == SectionStatusEnum.OK;
+  }
+}
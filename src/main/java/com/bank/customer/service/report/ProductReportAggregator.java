@@ -0,0 +1,208 @@
+package com.bank.customer.service.report;
+
+import com.bank.customer.model.CustomerTypeCount;
+import com.bank.customer.model.ReportRollup;
+import com.bank.customer.model.response.AccountResponse;
+import com.bank.customer.model.response.CreditResponse;
+import com.bank.customer.model.response.TransactionTotalsResponse;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Acumulador en una sola pasada para el reporte de productos.
+ * Pliega cada elemento de los flujos en contadores, sumas y agrupaciones
+ * a medida que llegan, sin retener las entidades en memoria.
+ *
+ * <p>Cada flujo (clientes, cuentas, créditos, transacciones) escribe sobre
+ * su propio grupo de campos, por lo que pueden consumirse en paralelo
+ * mientras cada uno se entregue de forma serial.
+ */
+public class ProductReportAggregator {
+
+  private long customerCount;
+  private final Map<String, Long> customersByType = new HashMap<>();
+
+  private long accountCount;
+  private double accountBalanceSum;
+  private final Map<String, Long> accountsByType = new HashMap<>();
+
+  private long creditCount;
+  private double outstandingSum;
+  private double interestRateSum;
+  private final Map<String, Long> creditsByType = new HashMap<>();
+
+  private long transactionCount;
+  private Map<String, Long> transactionsByType = new HashMap<>();
+  private Map<String, Long> transactionsByProduct = new HashMap<>();
+
+  /**
+   * Acumula la cantidad de clientes de un tipo.
+   *
+   * @param typeCount la cantidad agregada en MongoDB para un tipo de cliente
+   */
+  public void acceptCustomerTypeCount(CustomerTypeCount typeCount) {
+    customerCount += typeCount.getCount();
+    customersByType.merge(typeCount.getCustomerType(), typeCount.getCount(), Long::sum);
+  }
+
+  /**
+   * Acumula una cuenta.
+   *
+   * @param account la cuenta recibida del servicio de cuentas
+   */
+  public void acceptAccount(AccountResponse account) {
+    accountCount++;
+    accountBalanceSum += valueOf(account.getBalance());
+    accountsByType.merge(account.getAccountType(), 1L, Long::sum);
+  }
+
+  /**
+   * Acumula un crédito.
+   *
+   * @param credit el crédito recibido del servicio de créditos
+   */
+  public void acceptCredit(CreditResponse credit) {
+    creditCount++;
+    outstandingSum += valueOf(credit.getOutstandingBalance());
+    interestRateSum += valueOf(credit.getInterestRate());
+    creditsByType.merge(credit.getCreditType(), 1L, Long::sum);
+  }
+
+  /**
+   * Registra la foto de cuentas guardada en los contadores diarios, en lugar
+   * de acumular cada cuenta.
+   *
+   * @param snapshot los contadores del día con la foto de productos
+   */
+  public void acceptAccountSnapshot(ReportRollup snapshot) {
+    if (snapshot.getAccountsByType() != null) {
+      snapshot.getAccountsByType().forEach((type, count) -> {
+        accountsByType.merge(type, count, Long::sum);
+        accountCount += count;
+      });
+    }
+    accountBalanceSum += valueOf(snapshot.getAccountBalanceSum());
+  }
+
+  /**
+   * Registra la foto de créditos guardada en los contadores diarios, en lugar
+   * de acumular cada crédito.
+   *
+   * @param snapshot los contadores del día con la foto de productos
+   */
+  public void acceptCreditSnapshot(ReportRollup snapshot) {
+    if (snapshot.getCreditsByType() != null) {
+      snapshot.getCreditsByType().forEach((type, count) -> {
+        creditsByType.merge(type, count, Long::sum);
+        creditCount += count;
+      });
+    }
+    outstandingSum += valueOf(snapshot.getOutstandingSum());
+    interestRateSum += valueOf(snapshot.getInterestRateSum());
+  }
+
+  /**
+   * Registra los totales de transacciones del período.
+   *
+   * @param totals los totales agregados por el servicio de transacciones
+   */
+  public void acceptTransactionTotals(TransactionTotalsResponse totals) {
+    transactionCount = totals.getTotalCount();
+    if (totals.getCountByType() != null) {
+      transactionsByType = new HashMap<>(totals.getCountByType());
+    }
+    if (totals.getCountByProduct() != null) {
+      transactionsByProduct = new HashMap<>(totals.getCountByProduct());
+    }
+  }
+
+  public long getCustomerCount() {
+    return customerCount;
+  }
+
+  public Map<String, Integer> getCustomersByType() {
+    return toIntMap(customersByType);
+  }
+
+  public long getAccountCount() {
+    return accountCount;
+  }
+
+  public double getAccountBalanceSum() {
+    return accountBalanceSum;
+  }
+
+  public Map<String, Integer> getAccountsByType() {
+    return toIntMap(accountsByType);
+  }
+
+  public double getInterestRateSum() {
+    return interestRateSum;
+  }
+
+  public long getCreditCount() {
+    return creditCount;
+  }
+
+  public double getOutstandingSum() {
+    return outstandingSum;
+  }
+
+  public Map<String, Integer> getCreditsByType() {
+    return toIntMap(creditsByType);
+  }
+
+  public long getTransactionCount() {
+    return transactionCount;
+  }
+
+  public Map<String, Integer> getTransactionsByType() {
+    return toIntMap(transactionsByType);
+  }
+
+  public Map<String, Integer> getTransactionsByProduct() {
+    return toIntMap(transactionsByProduct);
+  }
+
+  /**
+   * Calcula el balance promedio por cuenta.
+   *
+   * @return el promedio, o 0 si no hay cuentas
+   */
+  public double getAverageBalance() {
+    return accountCount == 0 ? 0.0 : accountBalanceSum / accountCount;
+  }
+
+  /**
+   * Calcula la tasa de interés promedio de los créditos.
+   *
+   * @return el promedio, o 0 si no hay créditos
+   */
+  public double getAverageInterestRate() {
+    return creditCount == 0 ? 0.0 : interestRateSum / creditCount;
+  }
+
+  /**
+   * Calcula el promedio de productos (cuentas y créditos) por cliente.
+   * Es aproximado: los clientes llegan agregados por tipo, sin sus IDs, por lo
+   * que se cuentan todos los productos aunque su cliente no esté en el conteo.
+   *
+   * @return el promedio, o 0 si no hay clientes
+   */
+  public double getAverageProductsPerCustomer() {
+    return customerCount == 0 ? 0.0 : (double) (accountCount + creditCount) / customerCount;
+  }
+
+  private static double valueOf(Double value) {
+    return value != null ? value : 0.0;
+  }
+
+  private static Map<String, Integer> toIntMap(Map<String, Long> longMap) {
+    return longMap.entrySet().stream()
+      .collect(Collectors.toMap(
+        Map.Entry::getKey,
+        entry -> entry.getValue().intValue()
+      ));
+  }
+}
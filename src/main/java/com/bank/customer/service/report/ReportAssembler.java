@@ -0,0 +1,375 @@
+package com.bank.customer.service.report;
+
+import com.bank.customer.model.AccountDetail;
+import com.bank.customer.model.AccountMetrics;
+import com.bank.customer.model.AccountTypeEnum;
+import com.bank.customer.model.ConsolidatedSummary;
+import com.bank.customer.model.CreditDetail;
+import com.bank.customer.model.CreditMetrics;
+import com.bank.customer.model.CreditTypeEnum;
+import com.bank.customer.model.Customer;
+import com.bank.customer.model.CustomerMetrics;
+import com.bank.customer.model.CustomerResponse;
+import com.bank.customer.model.CustomerTypeEnum;
+import com.bank.customer.model.ProductReportRequest;
+import com.bank.customer.model.ProductReportResponse;
+import com.bank.customer.model.ProductsOverview;
+import com.bank.customer.model.ReportSummary;
+import com.bank.customer.model.TransactionDetail;
+import com.bank.customer.model.response.AccountResponse;
+import com.bank.customer.model.response.CreditResponse;
+import com.bank.customer.model.response.TransactionResponse;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ensamblador de reportes y resúmenes a partir de datos ya obtenidos.
+ * No realiza I/O: solo transforma los datos de entrada en los modelos de respuesta,
+ * por lo que puede medirse y ejecutarse fuera del hilo de I/O.
+ */
+@Component
+public class ReportAssembler {
+
+  /**
+   * Construye el reporte de productos completo a partir del estado del acumulador.
+   *
+   * @param request los parámetros del reporte
+   * @param aggregator el acumulador con los datos del período
+   * @return el reporte de productos
+   */
+  public ProductReportResponse buildProductReport(ProductReportRequest request,
+                                                  ProductReportAggregator aggregator) {
+    return buildProductReport(request, aggregator, ReportPlan.DETAILED);
+  }
+
+  /**
+   * Construye solo las secciones del plan del reporte de productos.
+   * Los campos del resumen cuyas fuentes no se consultaron quedan vacíos.
+   *
+   * @param request los parámetros del reporte
+   * @param aggregator el acumulador con las fuentes del plan
+   * @param plan el plan del tipo de reporte
+   * @return el reporte de productos
+   */
+  public ProductReportResponse buildProductReport(ProductReportRequest request,
+                                                  ProductReportAggregator aggregator,
+                                                  ReportPlan plan) {
+
+    ProductReportResponse response = new ProductReportResponse();
+    response.setPeriod(buildPeriodString(request));
+    response.setGeneratedAt(OffsetDateTime.now());
+    if (plan.includes(ReportPlan.Section.SUMMARY)) {
+      response.setSummary(buildReportSummary(aggregator, plan));
+    }
+    if (plan.includes(ReportPlan.Section.ACCOUNT_METRICS)) {
+      response.setAccountMetrics(buildAccountMetrics(aggregator));
+    }
+    if (plan.includes(ReportPlan.Section.CREDIT_METRICS)) {
+      response.setCreditMetrics(buildCreditMetrics(aggregator));
+    }
+    if (plan.includes(ReportPlan.Section.CUSTOMER_METRICS)) {
+      response.setCustomerMetrics(buildCustomerMetrics(aggregator, plan));
+    }
+
+    return response;
+  }
+
+  private ReportSummary buildReportSummary(ProductReportAggregator aggregator,
+                                           ReportPlan plan) {
+    ReportSummary summary = new ReportSummary();
+    if (plan.needs(ReportPlan.Source.CUSTOMERS)) {
+      summary.setTotalCustomers((int) aggregator.getCustomerCount());
+      summary.setActiveCustomers((int) aggregator.getCustomerCount());
+    }
+    if (plan.needs(ReportPlan.Source.ACCOUNTS)) {
+      summary.setTotalAccounts((int) aggregator.getAccountCount());
+      summary.setTotalBalance(aggregator.getAccountBalanceSum());
+    }
+    if (plan.needs(ReportPlan.Source.CREDITS)) {
+      summary.setTotalCredits((int) aggregator.getCreditCount());
+    }
+    if (plan.needs(ReportPlan.Source.TRANSACTIONS)) {
+      summary.setTotalTransactions((int) aggregator.getTransactionCount());
+    }
+
+    return summary;
+  }
+
+  private AccountMetrics buildAccountMetrics(ProductReportAggregator aggregator) {
+    AccountMetrics metrics = new AccountMetrics();
+    metrics.setTotalAccounts((int) aggregator.getAccountCount());
+    metrics.setByType(aggregator.getAccountsByType());
+    metrics.setAverageBalance(aggregator.getAverageBalance());
+    metrics.setNewAccounts(0);
+
+    return metrics;
+  }
+
+  private CreditMetrics buildCreditMetrics(ProductReportAggregator aggregator) {
+    CreditMetrics metrics = new CreditMetrics();
+    metrics.setTotalCredits((int) aggregator.getCreditCount());
+    metrics.setByType(aggregator.getCreditsByType());
+    metrics.setTotalOutstanding(aggregator.getOutstandingSum());
+    metrics.setAverageInterestRate(aggregator.getAverageInterestRate());
+
+    return metrics;
+  }
+
+  private CustomerMetrics buildCustomerMetrics(ProductReportAggregator aggregator,
+                                               ReportPlan plan) {
+    CustomerMetrics metrics = new CustomerMetrics();
+    metrics.setTotalCustomers((int) aggregator.getCustomerCount());
+    metrics.setByType(aggregator.getCustomersByType());
+    if (plan.needs(ReportPlan.Source.ACCOUNTS) && plan.needs(ReportPlan.Source.CREDITS)) {
+      metrics.setAverageProductsPerCustomer(aggregator.getAverageProductsPerCustomer());
+    }
+
+    return metrics;
+  }
+
+  private String buildPeriodString(ProductReportRequest request) {
+    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd MMM yyyy");
+    return request.getStartDate() + " - " + request.getEndDate();
+  }
+
+  /**
+   * Construye el resumen consolidado de un cliente.
+   *
+   * @param customer el cliente
+   * @param accounts las cuentas del cliente
+   * @param credits los créditos del cliente
+   * @param transactions las transacciones recientes del cliente
+   * @return el resumen consolidado
+   */
+  public ConsolidatedSummary buildConsolidatedSummary(Customer customer,
+                                                      List<AccountResponse> accounts,
+                                                      List<CreditResponse> credits,
+                                                      List<TransactionResponse> transactions) {
+    return buildConsolidatedSummary(customer, accounts, credits, transactions,
+        EnumSet.allOf(SummarySection.class));
+  }
+
+  /**
+   * Construye solo las secciones indicadas del resumen consolidado.
+   * Las listas de productos que ninguna sección necesita pueden llegar vacías.
+   *
+   * @param customer el cliente
+   * @param accounts las cuentas del cliente
+   * @param credits los créditos del cliente
+   * @param transactions las transacciones recientes del cliente
+   * @param sections las secciones a construir
+   * @return el resumen consolidado con las secciones pedidas
+   */
+  public ConsolidatedSummary buildConsolidatedSummary(Customer customer,
+                                                      List<AccountResponse> accounts,
+                                                      List<CreditResponse> credits,
+                                                      List<TransactionResponse> transactions,
+                                                      Set<SummarySection> sections) {
+
+    ConsolidatedSummary consolidatedSummary = new ConsolidatedSummary();
+    consolidatedSummary.setSummaryDate(OffsetDateTime.now());
+    if (sections.contains(SummarySection.CUSTOMER)) {
+      consolidatedSummary.setCustomer(mapToCustomerResponse(customer));
+    }
+    if (sections.contains(SummarySection.TOTAL_BALANCE)) {
+      consolidatedSummary.setTotalBalance(calculateTotalBalance(accounts, credits));
+    }
+    if (sections.contains(SummarySection.PRODUCTS_OVERVIEW)) {
+      consolidatedSummary.setProductsOverview(
+          buildProductsOverview(accounts, credits, transactions));
+    }
+    if (sections.contains(SummarySection.ACCOUNTS)) {
+      consolidatedSummary.setAccounts(mapToAccountDetails(accounts));
+    }
+    if (sections.contains(SummarySection.CREDITS)) {
+      consolidatedSummary.setCredits(mapToCreditDetails(credits));
+    }
+    if (sections.contains(SummarySection.RECENT_TRANSACTIONS)) {
+      consolidatedSummary.setRecentTransactions(mapToTransactionDetails(transactions));
+    }
+
+    return consolidatedSummary;
+  }
+
+  /**
+   * Copia de un resumen completo solo las secciones indicadas.
+   *
+   * @param summary el resumen completo
+   * @param sections las secciones a conservar
+   * @return un nuevo resumen con las secciones pedidas
+   */
+  public ConsolidatedSummary selectSections(ConsolidatedSummary summary,
+                                            Set<SummarySection> sections) {
+    ConsolidatedSummary selected = new ConsolidatedSummary();
+    selected.setSummaryDate(summary.getSummaryDate());
+    if (sections.contains(SummarySection.CUSTOMER)) {
+      selected.setCustomer(summary.getCustomer());
+    }
+    if (sections.contains(SummarySection.TOTAL_BALANCE)) {
+      selected.setTotalBalance(summary.getTotalBalance());
+    }
+    if (sections.contains(SummarySection.PRODUCTS_OVERVIEW)) {
+      selected.setProductsOverview(summary.getProductsOverview());
+    }
+    if (sections.contains(SummarySection.ACCOUNTS)) {
+      selected.setAccounts(summary.getAccounts());
+    }
+    if (sections.contains(SummarySection.CREDITS)) {
+      selected.setCredits(summary.getCredits());
+    }
+    if (sections.contains(SummarySection.RECENT_TRANSACTIONS)) {
+      selected.setRecentTransactions(summary.getRecentTransactions());
+    }
+    return selected;
+  }
+
+  /**
+   * Calcula el balance neto de las cuentas y créditos activos.
+   *
+   * @param accounts las cuentas del cliente
+   * @param credits los créditos del cliente
+   * @return el balance neto
+   */
+  public Double calculateTotalBalance(List<AccountResponse> accounts,
+                                      List<CreditResponse> credits) {
+    double accountBalance = accounts.stream()
+        .filter(account -> "ACTIVO".equals(account.getStatus()))
+        .mapToDouble(AccountResponse::getBalance)
+        .sum();
+
+    double creditBalance = credits.stream()
+        .filter(credit -> "ACTIVO".equals(credit.getStatus()))
+        .mapToDouble(credit -> {
+          // Para tarjetas de crédito, el availableCredit representa el saldo disponible
+          if ("TARJETA_CREDITO".equals(credit.getCreditType())) {
+            return credit.getCreditLimit() - credit.getAvailableCredit();
+          } else {
+            // Para préstamos, el outstandingBalance es la deuda
+            return -credit.getOutstandingBalance();
+          }
+        })
+        .sum();
+
+    return accountBalance + creditBalance;
+  }
+
+  private ProductsOverview buildProductsOverview(List<AccountResponse> accounts,
+                                                 List<CreditResponse> credits,
+                                                 List<TransactionResponse> transactions) {
+    ProductsOverview productsOverview = new ProductsOverview();
+    productsOverview.setTotalAccounts(accounts.size());
+    productsOverview.setTotalCredits(credits.size());
+    productsOverview.setTotalTransactions(transactions.size());
+    productsOverview.setActiveAccounts((int) accounts.stream().filter(
+        acc -> "ACTIVO".equals(acc.getStatus())).count());
+    productsOverview.setActiveCredits((int) credits.stream().filter(
+        cred -> "ACTIVO".equals(cred.getStatus())).count());
+
+    return productsOverview;
+  }
+
+  /**
+   * Convierte las cuentas al detalle del resumen.
+   *
+   * @param accounts las cuentas del cliente
+   * @return el detalle de cada cuenta
+   */
+  public List<AccountDetail> mapToAccountDetails(List<AccountResponse> accounts) {
+    return accounts.stream()
+      .map(this::mapToAccountDetail)
+      .collect(Collectors.toList());
+  }
+
+  private AccountDetail mapToAccountDetail(AccountResponse account) {
+    AccountDetail accountDetail = new AccountDetail();
+    accountDetail.setId(account.getId());
+    accountDetail.setAccountNumber(account.getAccountNumber());
+    accountDetail.setAccountType(AccountTypeEnum.valueOf(account.getAccountType()));
+    accountDetail.setCurrentBalance(account.getBalance());
+    accountDetail.setStatus(account.getStatus());
+
+    if (account.getCreatedAt() != null) {
+      accountDetail.setOpenedDate(account.getCreatedAt().atOffset(ZoneOffset.UTC));
+    }
+
+    return accountDetail;
+  }
+
+  /**
+   * Convierte los créditos al detalle del resumen.
+   *
+   * @param credits los créditos del cliente
+   * @return el detalle de cada crédito
+   */
+  public List<CreditDetail> mapToCreditDetails(List<CreditResponse> credits) {
+    return credits.stream()
+      .map(this::mapToCreditDetail)
+      .collect(Collectors.toList());
+  }
+
+  private CreditDetail mapToCreditDetail(CreditResponse credit) {
+    CreditDetail creditDetail = new CreditDetail();
+    creditDetail.setId(credit.getId());
+    creditDetail.setCreditNumber(credit.getCreditNumber());
+    creditDetail.setCreditType(CreditTypeEnum.valueOf(credit.getCreditType()));
+    creditDetail.setCurrentBalance(
+        "TARJETA_CREDITO".equals(credit.getCreditType())
+          ? credit.getCreditLimit() - credit.getAvailableCredit() :
+          -credit.getOutstandingBalance());
+    creditDetail.setCreditLimit(credit.getCreditLimit());
+    creditDetail.setAvailableCredit(credit.getAvailableCredit());
+    creditDetail.setInterestRate(credit.getInterestRate());
+    creditDetail.setStatus(credit.getStatus());
+
+    return creditDetail;
+  }
+
+  /**
+   * Convierte las transacciones al detalle del resumen.
+   *
+   * @param transactions las transacciones del cliente
+   * @return el detalle de cada transacción
+   */
+  public List<TransactionDetail> mapToTransactionDetails(List<TransactionResponse> transactions) {
+    return transactions.stream()
+      .map(this::mapToTransactionDetail)
+      .collect(Collectors.toList());
+  }
+
+  private TransactionDetail mapToTransactionDetail(TransactionResponse transaction) {
+    TransactionDetail transactionDetail = new TransactionDetail();
+    transactionDetail.setId(transaction.getId());
+    transactionDetail.setTransactionType(transaction.getTransactionType());
+    transactionDetail.setAmount(transaction.getAmount());
+    transactionDetail.setDescription(transaction.getDescription());
+    transactionDetail.setTransactionDate(transaction.getTransactionDate());
+    transactionDetail.setProductType(transaction.getAccountId() != null ? "ACCOUNT" : "CREDIT");
+    transactionDetail.setProductNumber(""); // Puedes enriquecer esto si necesitas
+
+    return transactionDetail;
+  }
+
+  // Método para mapear Customer a CustomerResponse (ajusta según tu implementación existente)
+  private CustomerResponse mapToCustomerResponse(Customer customer) {
+    CustomerResponse customerResponse = new CustomerResponse();
+    customerResponse.setId(customer.getId());
+    customerResponse.setDocumentType(customer.getDocumentType());
+    customerResponse.setDocumentNumber(customer.getDocumentNumber());
+    customerResponse.setFirstName(customer.getFirstName());
+    customerResponse.setLastName(customer.getLastName());
+    customerResponse.setEmail(customer.getEmail());
+    customerResponse.setPhone(customer.getPhone());
+    customerResponse.setCustomerType(CustomerTypeEnum.valueOf(customer.getCustomerType()));
+    if (customer.getCreatedAt() != null) {
+      customerResponse.setCreatedAt(customer.getCreatedAt().atOffset(ZoneOffset.UTC));
+    }
+
+    return customerResponse;
+  }
+}
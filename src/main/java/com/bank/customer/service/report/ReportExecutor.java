@@ -0,0 +1,71 @@
+package com.bank.customer.service.report;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Ejecutor dedicado para el ensamblado de reportes y resúmenes.
+ * Mantiene el trabajo de CPU fuera de los hilos de I/O de Netty con un pool
+ * de hilos fijo y una cola acotada; cuando la cola se llena las tareas se
+ * rechazan con {@link java.util.concurrent.RejectedExecutionException}.
+ * Publica métricas del pool bajo el nombre {@code report.assembly}.
+ */
+@Slf4j
+@Component
+public class ReportExecutor implements DisposableBean {
+
+  private final Scheduler scheduler;
+
+  /**
+   * Crea el pool de ensamblado y registra sus métricas.
+   *
+   * @param threads cantidad de hilos; 0 usa la cantidad de procesadores
+   * @param queueCapacity cantidad máxima de tareas en espera
+   * @param meterRegistry registro de métricas de Micrometer
+   */
+  public ReportExecutor(@Value("${customer.report.executor.threads:0}") int threads,
+                        @Value("${customer.report.executor.queue-capacity:64}") int queueCapacity,
+                        MeterRegistry meterRegistry) {
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize,
+        0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        new CustomizableThreadFactory("report-assembly-"),
+        new ThreadPoolExecutor.AbortPolicy());
+
+    ExecutorService executor = ExecutorServiceMetrics.monitor(
+        meterRegistry, pool, "report.assembly");
+    this.scheduler = Schedulers.fromExecutorService(executor, "report-assembly");
+    log.info("Report executor initialized with threads={} queueCapacity={}",
+        poolSize, queueCapacity);
+  }
+
+  /**
+   * Ejecuta una tarea de ensamblado en el pool dedicado.
+   *
+   * @param task la tarea a ejecutar
+   * @param <T> el tipo del resultado
+   * @return Mono con el resultado de la tarea
+   */
+  public <T> Mono<T> assemble(Callable<T> task) {
+    return Mono.fromCallable(task).subscribeOn(scheduler);
+  }
+
+  @Override
+  public void destroy() {
+    scheduler.dispose();
+  }
+}
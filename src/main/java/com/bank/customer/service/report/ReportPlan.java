@@ -0,0 +1,108 @@
+package com.bank.customer.service.report;
+
+import com.bank.customer.model.ReportTypeEnum;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Plan de ejecución del reporte de productos según su tipo.
+ * Cada tipo declara las fuentes de datos que necesita y las secciones que
+ * construye, de modo que solo se consulten los servicios y se ejecuten los
+ * constructores de las secciones pedidas.
+ *
+ * <ul>
+ *   <li>DETAILED: todas las fuentes y secciones (valor por defecto).</li>
+ *   <li>SUMMARY: solo conteos de clientes y transacciones.</li>
+ *   <li>FINANCIAL: solo balances de cuentas y créditos.</li>
+ * </ul>
+ */
+public final class ReportPlan {
+
+  /**
+   * Fuentes de datos del reporte.
+   */
+  public enum Source {
+    CUSTOMERS,
+    ACCOUNTS,
+    CREDITS,
+    TRANSACTIONS
+  }
+
+  /**
+   * Secciones de la respuesta del reporte.
+   */
+  public enum Section {
+    SUMMARY,
+    ACCOUNT_METRICS,
+    CREDIT_METRICS,
+    CUSTOMER_METRICS
+  }
+
+  public static final ReportPlan DETAILED = new ReportPlan(
+      EnumSet.allOf(Source.class), EnumSet.allOf(Section.class));
+
+  public static final ReportPlan SUMMARY = new ReportPlan(
+      EnumSet.of(Source.CUSTOMERS, Source.TRANSACTIONS),
+      EnumSet.of(Section.SUMMARY, Section.CUSTOMER_METRICS));
+
+  public static final ReportPlan FINANCIAL = new ReportPlan(
+      EnumSet.of(Source.ACCOUNTS, Source.CREDITS),
+      EnumSet.of(Section.SUMMARY, Section.ACCOUNT_METRICS, Section.CREDIT_METRICS));
+
+  private final Set<Source> sources;
+  private final Set<Section> sections;
+
+  private ReportPlan(Set<Source> sources, Set<Section> sections) {
+    this.sources = Collections.unmodifiableSet(sources);
+    this.sections = Collections.unmodifiableSet(sections);
+  }
+
+  /**
+   * Obtiene el plan de un tipo de reporte.
+   *
+   * @param type el tipo de reporte solicitado, o null para el reporte detallado
+   * @return el plan del tipo de reporte
+   */
+  public static ReportPlan forType(ReportTypeEnum type) {
+    if (type == null) {
+      return DETAILED;
+    }
+    switch (type) {
+      case SUMMARY:
+        return SUMMARY;
+      case FINANCIAL:
+        return FINANCIAL;
+      default:
+        return DETAILED;
+    }
+  }
+
+  /**
+   * Indica si el plan necesita una fuente de datos.
+   *
+   * @param source la fuente de datos
+   * @return true si se debe consultar la fuente
+   */
+  public boolean needs(Source source) {
+    return sources.contains(source);
+  }
+
+  /**
+   * Indica si el plan construye una sección.
+   *
+   * @param section la sección de la respuesta
+   * @return true si se debe construir la sección
+   */
+  public boolean includes(Section section) {
+    return sections.contains(section);
+  }
+
+  public Set<Source> getSources() {
+    return sources;
+  }
+
+  public Set<Section> getSections() {
+    return sections;
+  }
+}
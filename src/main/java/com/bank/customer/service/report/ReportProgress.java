@@ -0,0 +1,20 @@
+package com.bank.customer.service.report;
+
+/**
+ * Receptor del avance de la generación de un reporte.
+ */
+@FunctionalInterface
+public interface ReportProgress {
+
+  /**
+   * Receptor que ignora el avance, para las generaciones síncronas.
+   */
+  ReportProgress NONE = percent -> { };
+
+  /**
+   * Informa el porcentaje completado.
+   *
+   * @param percent el porcentaje completado, de 0 a 100
+   */
+  void update(int percent);
+}
@@ -0,0 +1,392 @@
+package com.bank.customer.service.report;
+
+import com.bank.customer.client.AccountServiceClient;
+import com.bank.customer.client.CreditServiceClient;
+import com.bank.customer.client.TransactionServiceClient;
+import com.bank.customer.model.Customer;
+import com.bank.customer.model.CustomerDailyCount;
+import com.bank.customer.model.CustomerTypeCount;
+import com.bank.customer.model.ReportRollup;
+import com.bank.customer.model.response.TransactionTotalsResponse;
+import com.bank.customer.repository.CustomerRepository;
+import com.bank.customer.repository.ReportRollupRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Contadores diarios del reporte de productos, mantenidos de forma incremental.
+ * Las altas y bajas de clientes suman o restan en el día de creación del
+ * cliente; la foto de cuentas y créditos y los totales de transacciones se
+ * ingieren una vez por día. Un reporte de cualquier rango se arma sumando los
+ * días en lugar de recorrer todos los documentos.
+ *
+ * <p>Las fallas al actualizar los contadores se registran y no afectan la
+ * operación que los originó; los contadores de clientes se reconstruyen
+ * periódicamente para corregir esos desvíos. Mientras la reconstrucción
+ * inicial no se complete, o si la última foto de productos está atrasada
+ * respecto del período pedido, el reporte usa el recorrido completo.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportRollupStore {
+
+  private static final int MAX_LIVE_RANGES = 5;
+
+  private final ReportRollupRepository rollupRepository;
+  private final CustomerRepository customerRepository;
+  private final AccountServiceClient accountServiceClient;
+  private final CreditServiceClient creditServiceClient;
+  private final TransactionServiceClient transactionServiceClient;
+
+  @Value("${customer.rollup.enabled:true}")
+  private boolean enabled;
+
+  @Value("${customer.rollup.max-snapshot-lag-days:1}")
+  private long maxSnapshotLagDays;
+
+  private volatile boolean customersRebuilt;
+
+  /**
+   * Registra el alta de un cliente.
+   *
+   * @param customer el cliente creado
+   * @return Mono vacío que indica completación
+   */
+  public Mono<Void> recordCreated(Customer customer) {
+    return increment(customer, 1);
+  }
+
+  /**
+   * Registra el alta de varios clientes agrupando los contadores por día y tipo.
+   *
+   * @param customers los clientes creados
+   * @return Mono vacío que indica completación
+   */
+  public Mono<Void> recordCreated(List<Customer> customers) {
+    if (!enabled) {
+      return Mono.empty();
+    }
+    Map<List<String>, Long> deltas = customers.stream()
+        .filter(customer -> customer.getCreatedAt() != null)
+        .collect(Collectors.groupingBy(
+          customer -> List.of(dayOf(customer.getCreatedAt()), customer.getCustomerType()),
+          Collectors.counting()));
+    return Flux.fromIterable(deltas.entrySet())
+      .concatMap(entry -> rollupRepository.incrementCustomers(
+        entry.getKey().get(0), entry.getKey().get(1), entry.getValue()))
+      .then()
+      .onErrorResume(ex -> {
+        log.warn("Error updating customer rollups: {}", ex.getMessage());
+        return Mono.empty();
+      });
+  }
+
+  /**
+   * Registra la baja de un cliente.
+   *
+   * @param customer el cliente eliminado
+   * @return Mono vacío que indica completación
+   */
+  public Mono<Void> recordDeleted(Customer customer) {
+    return increment(customer, -1);
+  }
+
+  /**
+   * Registra el cambio de tipo de un cliente: resta uno al tipo anterior y suma
+   * uno al nuevo en el día de creación del cliente.
+   *
+   * @param previous el cliente antes de la actualización
+   * @param customerType el nuevo tipo de cliente
+   * @return Mono vacío que indica completación
+   */
+  public Mono<Void> recordTypeChanged(Customer previous, String customerType) {
+    if (Objects.equals(previous.getCustomerType(), customerType)) {
+      return Mono.empty();
+    }
+    Customer updated = Customer.builder()
+        .id(previous.getId())
+        .customerType(customerType)
+        .createdAt(previous.getCreatedAt())
+        .build();
+    return increment(previous, -1).then(increment(updated, 1));
+  }
+
+  /**
+   * Ingiere la foto de cuentas y créditos y los totales de transacciones de un día.
+   *
+   * @param day el día a ingerir
+   * @return Mono vacío que indica completación
+   */
+  public Mono<Void> ingestSnapshot(LocalDate day) {
+    String dayStr = day.toString();
+    return Mono.defer(() -> {
+      ProductReportAggregator products = new ProductReportAggregator();
+      return Mono.when(
+        accountServiceClient.getAllAccounts().doOnNext(products::acceptAccount),
+        creditServiceClient.getAllCredits().doOnNext(products::acceptCredit))
+        .then(transactionServiceClient.getTransactionTotalsByDateRange(dayStr, dayStr)
+          .defaultIfEmpty(new TransactionTotalsResponse()))
+        .flatMap(totals -> rollupRepository.saveSnapshot(ReportRollup.builder()
+          .day(dayStr)
+          .accountsByType(toLongMap(products.getAccountsByType()))
+          .accountBalanceSum(products.getAccountBalanceSum())
+          .creditsByType(toLongMap(products.getCreditsByType()))
+          .outstandingSum(products.getOutstandingSum())
+          .interestRateSum(products.getInterestRateSum())
+          .transactionCount(totals.getTotalCount())
+          .transactionsByType(totals.getCountByType())
+          .transactionsByProduct(totals.getCountByProduct())
+          .snapshotAt(Instant.now())
+          .build()));
+    })
+      .doOnSuccess(unused -> log.info("Ingested report rollup snapshot for {}", dayStr));
+  }
+
+  /**
+   * Ingiere la foto del día anterior según el cron configurado.
+   */
+  @Scheduled(cron = "${customer.rollup.ingest-cron:0 15 0 * * *}", zone = "UTC")
+  public void ingestPreviousDay() {
+    if (!enabled) {
+      return;
+    }
+    ingestSnapshot(LocalDate.now(ZoneOffset.UTC).minusDays(1)).subscribe(
+        null, ex -> log.error("Error ingesting report rollup snapshot: {}", ex.getMessage(), ex));
+  }
+
+  /**
+   * Reconstruye los contadores de clientes al iniciar si nunca se completó una
+   * reconstrucción.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillIfNeeded() {
+    if (!enabled) {
+      return;
+    }
+    rollupRepository.findCustomersRebuiltAt()
+      .hasElement()
+      .filter(rebuilt -> !rebuilt)
+      .flatMap(missing -> rebuildCustomers())
+      .subscribe(null, ex -> log.error(
+        "Error backfilling customer rollups: {}", ex.getMessage(), ex));
+  }
+
+  /**
+   * Reconstruye los contadores de clientes según el cron configurado, para
+   * corregir los incrementos que fallaron.
+   */
+  @Scheduled(cron = "${customer.rollup.resync-cron:0 45 0 * * *}", zone = "UTC")
+  public void resyncCustomers() {
+    if (!enabled) {
+      return;
+    }
+    rebuildCustomers().subscribe(
+        null, ex -> log.error("Error resyncing customer rollups: {}", ex.getMessage(), ex));
+  }
+
+  /**
+   * Reconstruye los contadores de clientes de todos los días a partir de una
+   * agregación sobre la colección de clientes, quita los de los días que ya no
+   * tienen clientes y registra la reconstrucción como completa.
+   *
+   * @return Mono vacío que indica completación
+   */
+  public Mono<Void> rebuildCustomers() {
+    Instant startedAt = Instant.now();
+    return customerRepository.countByCreatedDayAndType()
+      .collect(Collectors.groupingBy(CustomerDailyCount::getDay,
+        Collectors.toMap(CustomerDailyCount::getCustomerType, CustomerDailyCount::getCount)))
+      .flatMap(byDay -> Flux.fromIterable(byDay.entrySet())
+        .concatMap(entry -> rollupRepository.replaceCustomers(entry.getKey(), entry.getValue()))
+        .then(rollupRepository.clearCustomersExcept(byDay.keySet())))
+      .then(Mono.defer(() -> rollupRepository.markCustomersRebuilt(startedAt)))
+      .doOnSuccess(unused -> {
+        customersRebuilt = true;
+        log.info("Rebuilt customer rollups");
+      });
+  }
+
+  /**
+   * Arma los acumulados del reporte de un período a partir de los contadores.
+   * Los clientes son las altas netas hasta el fin del período, los productos
+   * la última foto hasta ese día y las transacciones la suma de los días del
+   * período. Los días sin totales ingeridos (posteriores a la última foto o
+   * cuya ingesta falló) se piden al servicio de transacciones, una llamada por
+   * rango contiguo; con demasiados rangos se usa el recorrido completo. Solo se
+   * leen las fuentes del plan.
+   *
+   * @param start el primer día del período
+   * @param end el último día del período
+   * @param plan el plan del tipo de reporte
+   * @return Mono con los acumulados, o vacío si no hay una foto de productos
+   *     reciente para el período o los contadores de clientes no están completos
+   */
+  public Mono<ProductReportAggregator> load(LocalDate start, LocalDate end, ReportPlan plan) {
+    if (!enabled) {
+      return Mono.empty();
+    }
+    String endDay = end.toString();
+    LocalDate today = LocalDate.now(ZoneOffset.UTC);
+    LocalDate oldestUsable = (end.isBefore(today) ? end : today).minusDays(maxSnapshotLagDays);
+    return customersReady(plan)
+      .filter(ready -> ready)
+      .flatMap(ready -> rollupRepository.findLatestSnapshot(endDay))
+      .filter(snapshot -> {
+        boolean fresh = !LocalDate.parse(snapshot.getDay()).isBefore(oldestUsable);
+        if (!fresh) {
+          log.warn("Latest report rollup snapshot {} is older than {}, using full scan",
+              snapshot.getDay(), oldestUsable);
+        }
+        return fresh;
+      })
+      .flatMap(snapshot -> {
+        ProductReportAggregator aggregator = new ProductReportAggregator();
+        if (plan.needs(ReportPlan.Source.ACCOUNTS)) {
+          aggregator.acceptAccountSnapshot(snapshot);
+        }
+        if (plan.needs(ReportPlan.Source.CREDITS)) {
+          aggregator.acceptCreditSnapshot(snapshot);
+        }
+        return Mono.when(
+          plan.needs(ReportPlan.Source.CUSTOMERS)
+            ? rollupRepository.findDays(null, endDay)
+              .doOnNext(rollup -> acceptCustomers(aggregator, rollup))
+            : Mono.empty(),
+          plan.needs(ReportPlan.Source.TRANSACTIONS)
+            ? transactionTotals(start, end)
+              .doOnNext(aggregator::acceptTransactionTotals)
+            : Mono.empty())
+          .thenReturn(aggregator);
+      })
+      .onErrorResume(ex -> {
+        log.warn("Error reading report rollups, falling back to full scan: {}",
+            ex.getMessage());
+        return Mono.empty();
+      });
+  }
+
+  /**
+   * Indica si los contadores de clientes se pueden usar para el plan: el plan
+   * no los necesita o ya se completó una reconstrucción.
+   */
+  private Mono<Boolean> customersReady(ReportPlan plan) {
+    if (customersRebuilt || !plan.needs(ReportPlan.Source.CUSTOMERS)) {
+      return Mono.just(true);
+    }
+    return rollupRepository.findCustomersRebuiltAt()
+      .hasElement()
+      .doOnNext(rebuilt -> {
+        if (rebuilt) {
+          customersRebuilt = true;
+        } else {
+          log.warn("Customer rollups not rebuilt yet, using full scan");
+        }
+      });
+  }
+
+  private Mono<TransactionTotalsResponse> transactionTotals(LocalDate start, LocalDate end) {
+    return rollupRepository.findDays(start.toString(), end.toString())
+      .filter(rollup -> rollup.getTransactionCount() != null)
+      .collectList()
+      .flatMap(ingested -> {
+        TransactionTotalsResponse totals = new TransactionTotalsResponse();
+        Set<LocalDate> covered = new HashSet<>();
+        for (ReportRollup rollup : ingested) {
+          covered.add(LocalDate.parse(rollup.getDay()));
+          totals.setTotalCount(totals.getTotalCount() + rollup.getTransactionCount());
+          mergeInto(totals.getCountByType(), rollup.getTransactionsByType());
+          mergeInto(totals.getCountByProduct(), rollup.getTransactionsByProduct());
+        }
+        List<LocalDate[]> gaps = missingRanges(start, end, covered);
+        if (gaps.size() > MAX_LIVE_RANGES) {
+          return Mono.error(new IllegalStateException(
+            gaps.size() + " ranges without transaction rollups"));
+        }
+        return Flux.fromIterable(gaps)
+          .flatMap(gap -> transactionServiceClient.getTransactionTotalsByDateRange(
+            gap[0].toString(), gap[1].toString()))
+          .reduce(totals, (merged, live) -> {
+            merged.setTotalCount(merged.getTotalCount() + live.getTotalCount());
+            mergeInto(merged.getCountByType(), live.getCountByType());
+            mergeInto(merged.getCountByProduct(), live.getCountByProduct());
+            return merged;
+          });
+      });
+  }
+
+  /**
+   * Agrupa en rangos contiguos los días del período que no tienen totales de
+   * transacciones ingeridos.
+   */
+  private static List<LocalDate[]> missingRanges(LocalDate start, LocalDate end,
+                                                 Set<LocalDate> covered) {
+    List<LocalDate[]> ranges = new ArrayList<>();
+    LocalDate gapStart = null;
+    for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+      if (!covered.contains(day)) {
+        gapStart = gapStart == null ? day : gapStart;
+      } else if (gapStart != null) {
+        ranges.add(new LocalDate[] {gapStart, day.minusDays(1)});
+        gapStart = null;
+      }
+    }
+    if (gapStart != null) {
+      ranges.add(new LocalDate[] {gapStart, end});
+    }
+    return ranges;
+  }
+
+  private Mono<Void> increment(Customer customer, long delta) {
+    if (!enabled || customer.getCreatedAt() == null) {
+      return Mono.empty();
+    }
+    return rollupRepository.incrementCustomers(dayOf(customer.getCreatedAt()),
+        customer.getCustomerType(), delta)
+      .onErrorResume(ex -> {
+        log.warn("Error updating customer rollup for {}: {}", customer.getId(), ex.getMessage());
+        return Mono.empty();
+      });
+  }
+
+  private static void acceptCustomers(ProductReportAggregator aggregator, ReportRollup rollup) {
+    if (rollup.getCustomersByType() != null) {
+      rollup.getCustomersByType().forEach((type, count) ->
+          aggregator.acceptCustomerTypeCount(new CustomerTypeCount(type, count)));
+    }
+  }
+
+  private static void mergeInto(Map<String, Long> target, Map<String, Long> source) {
+    if (source != null) {
+      source.forEach((key, count) -> target.merge(key, count, Long::sum));
+    }
+  }
+
+  private static Map<String, Long> toLongMap(Map<String, Integer> intMap) {
+    Map<String, Long> longMap = new HashMap<>();
+    intMap.forEach((key, count) -> longMap.put(key, count.longValue()));
+    return longMap;
+  }
+
+  private static String dayOf(Instant instant) {
+    return instant.atOffset(ZoneOffset.UTC).toLocalDate().toString();
+  }
+}
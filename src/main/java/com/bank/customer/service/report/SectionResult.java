@@ -0,0 +1,65 @@
+package com.bank.customer.service.report;
+
+import com.bank.customer.model.SectionStatusEnum;
+import java.util.Collections;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resultado de la llamada externa detrás de una sección de un resumen.
+ * Distingue una lista vacía real de los datos perdidos por timeout o error.
+ *
+ * @param <T> el tipo de los elementos de la sección
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SectionResult<T> {
+
+  private final List<T> items;
+  private final SectionStatusEnum status;
+
+  /**
+   * Sección obtenida completa.
+   *
+   * @param items los elementos recibidos
+   * @param <T> el tipo de los elementos
+   * @return el resultado con estado OK
+   */
+  public static <T> SectionResult<T> ok(List<T> items) {
+    return new SectionResult<>(items, SectionStatusEnum.OK);
+  }
+
+  /**
+   * Sección con la última respuesta correcta conocida, por falta de una actual.
+   *
+   * @param items los elementos guardados
+   * @param <T> el tipo de los elementos
+   * @return el resultado con estado STALE
+   */
+  public static <T> SectionResult<T> stale(List<T> items) {
+    return new SectionResult<>(items, SectionStatusEnum.STALE);
+  }
+
+  /**
+   * Sección sin datos por una falla de la llamada.
+   *
+   * @param status TIMEOUT o ERROR
+   * @param <T> el tipo de los elementos
+   * @return el resultado parcial sin elementos
+   */
+  public static <T> SectionResult<T> failed(SectionStatusEnum status) {
+    return new SectionResult<>(Collections.emptyList(), status);
+  }
+
+  /**
+   * Sección no solicitada, por lo que no se consultó.
+   *
+   * @param <T> el tipo de los elementos
+   * @return el resultado sin elementos ni estado
+   */
+  public static <T> SectionResult<T> skipped() {
+    return new SectionResult<>(Collections.emptyList(), null);
+  }
+}
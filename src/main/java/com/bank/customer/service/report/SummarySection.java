@@ -0,0 +1,86 @@
+package com.bank.customer.service.report;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Secciones seleccionables del resumen consolidado.
+ * Cada sección declara qué servicios externos necesita para construirse,
+ * de modo que solo se consulten los servicios de las secciones pedidas.
+ */
+public enum SummarySection {
+
+  CUSTOMER("customer", false, false, false),
+  TOTAL_BALANCE("totalBalance", true, true, false),
+  PRODUCTS_OVERVIEW("productsOverview", true, true, true),
+  ACCOUNTS("accounts", true, false, false),
+  CREDITS("credits", false, true, false),
+  RECENT_TRANSACTIONS("recentTransactions", false, false, true);
+
+  private final String field;
+  private final boolean needsAccounts;
+  private final boolean needsCredits;
+  private final boolean needsTransactions;
+
+  SummarySection(String field, boolean needsAccounts, boolean needsCredits,
+                 boolean needsTransactions) {
+    this.field = field;
+    this.needsAccounts = needsAccounts;
+    this.needsCredits = needsCredits;
+    this.needsTransactions = needsTransactions;
+  }
+
+  /**
+   * Convierte los nombres de campo del API en secciones.
+   * Una lista nula o vacía selecciona todas las secciones.
+   *
+   * @param fields los nombres de campo solicitados
+   * @return las secciones seleccionadas
+   * @throws IllegalArgumentException si algún nombre no corresponde a una sección
+   */
+  public static Set<SummarySection> fromFields(Collection<String> fields) {
+    if (fields == null || fields.isEmpty()) {
+      return EnumSet.allOf(SummarySection.class);
+    }
+    Set<SummarySection> sections = EnumSet.noneOf(SummarySection.class);
+    for (String name : fields) {
+      sections.add(Arrays.stream(values())
+          .filter(section -> section.field.equals(name.trim()))
+          .findFirst()
+          .orElseThrow(() -> new IllegalArgumentException("Unknown summary field: " + name)));
+    }
+    return sections;
+  }
+
+  /**
+   * Indica si alguna de las secciones necesita las cuentas del cliente.
+   *
+   * @param sections las secciones seleccionadas
+   * @return true si se deben consultar las cuentas
+   */
+  public static boolean needsAccounts(Set<SummarySection> sections) {
+    return sections.stream().anyMatch(section -> section.needsAccounts);
+  }
+
+  /**
+   * Indica si alguna de las secciones necesita los créditos del cliente.
+   *
+   * @param sections las secciones seleccionadas
+   * @return true si se deben consultar los créditos
+   */
+  public static boolean needsCredits(Set<SummarySection> sections) {
+    return sections.stream().anyMatch(section -> section.needsCredits);
+  }
+
+  /**
+   * Indica si alguna de las secciones necesita las transacciones del cliente.
+   *
+   * @param sections las secciones seleccionadas
+   * @return true si se deben consultar las transacciones
+   */
+  public static boolean needsTransactions(Set<SummarySection> sections) {
+    return sections.stream().anyMatch(section -> section.needsTransactions);
+  }
+}
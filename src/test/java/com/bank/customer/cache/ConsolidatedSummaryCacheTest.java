@@ -0,0 +1,122 @@
+package com.bank.customer.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.bank.customer.model.ConsolidatedSummary;
+import com.bank.customer.model.SectionStatusEnum;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class ConsolidatedSummaryCacheTest {
+
+  private ConsolidatedSummary summary(double totalBalance) {
+    ConsolidatedSummary summary = new ConsolidatedSummary();
+    summary.setTotalBalance(totalBalance);
+    return summary;
+  }
+
+  @Test
+  void testFreshEntryIsServedWithoutReloading() {
+    ConsolidatedSummaryCache cache =
+        new ConsolidatedSummaryCache(10, 60, 600, new SimpleMeterRegistry());
+    AtomicInteger loads = new AtomicInteger();
+
+    for (int i = 0; i < 3; i++) {
+      StepVerifier.create(cache.get("1", () -> {
+        loads.incrementAndGet();
+        return Mono.just(summary(100.0));
+      }))
+        .expectNextMatches(result -> result.getTotalBalance() == 100.0)
+          .verifyComplete();
+    }
+
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void testStaleEntryIsServedWhileSingleRefreshRuns() {
+    ConsolidatedSummaryCache cache =
+        new ConsolidatedSummaryCache(10, 0, 600, new SimpleMeterRegistry());
+    cache.get("1", () -> Mono.just(summary(100.0))).block();
+
+    Sinks.One<ConsolidatedSummary> pending = Sinks.one();
+    AtomicInteger refreshes = new AtomicInteger();
+    for (int i = 0; i < 3; i++) {
+      StepVerifier.create(cache.get("1", () -> {
+        refreshes.incrementAndGet();
+        return pending.asMono();
+      }))
+        .expectNextMatches(result -> result.getTotalBalance() == 100.0)
+          .verifyComplete();
+    }
+    assertEquals(1, refreshes.get());
+
+    pending.tryEmitValue(summary(200.0));
+    StepVerifier.create(cache.get("1", () -> Mono.just(summary(300.0))))
+      .expectNextMatches(result -> result.getTotalBalance() == 200.0)
+        .verifyComplete();
+  }
+
+  @Test
+  void testPartialSummaryIsNotCached() {
+    ConsolidatedSummaryCache cache =
+        new ConsolidatedSummaryCache(10, 60, 600, new SimpleMeterRegistry());
+    ConsolidatedSummary partial = summary(100.0);
+    partial.setCreditsStatus(SectionStatusEnum.TIMEOUT);
+    cache.get("1", () -> Mono.just(partial)).block();
+
+    StepVerifier.create(cache.get("1", () -> Mono.just(summary(200.0))))
+      .expectNextMatches(result -> result.getTotalBalance() == 200.0)
+        .verifyComplete();
+  }
+
+  @Test
+  void testEvictForcesReload() {
+    ConsolidatedSummaryCache cache =
+        new ConsolidatedSummaryCache(10, 60, 600, new SimpleMeterRegistry());
+    cache.get("1", () -> Mono.just(summary(100.0))).block();
+    cache.evict("1");
+
+    StepVerifier.create(cache.get("1", () -> Mono.just(summary(200.0))))
+      .expectNextMatches(result -> result.getTotalBalance() == 200.0)
+        .verifyComplete();
+  }
+
+  @Test
+  void testLoadInFlightDuringEvictIsNotCached() {
+    ConsolidatedSummaryCache cache =
+        new ConsolidatedSummaryCache(10, 60, 600, new SimpleMeterRegistry());
+    Sinks.One<ConsolidatedSummary> pending = Sinks.one();
+    StepVerifier.create(cache.get("1", pending::asMono))
+      .then(() -> {
+        cache.evict("1");
+        pending.tryEmitValue(summary(100.0));
+      })
+      .expectNextMatches(result -> result.getTotalBalance() == 100.0)
+        .verifyComplete();
+
+    StepVerifier.create(cache.get("1", () -> Mono.just(summary(200.0))))
+      .expectNextMatches(result -> result.getTotalBalance() == 200.0)
+        .verifyComplete();
+  }
+
+  @Test
+  void testRefreshInFlightDuringEvictDoesNotRepopulate() {
+    ConsolidatedSummaryCache cache =
+        new ConsolidatedSummaryCache(10, 0, 600, new SimpleMeterRegistry());
+    cache.get("1", () -> Mono.just(summary(100.0))).block();
+    Sinks.One<ConsolidatedSummary> pending = Sinks.one();
+    cache.get("1", pending::asMono).block();
+
+    cache.evict("1");
+    pending.tryEmitValue(summary(150.0));
+
+    StepVerifier.create(cache.get("1", () -> Mono.just(summary(200.0))))
+      .expectNextMatches(result -> result.getTotalBalance() == 200.0)
+        .verifyComplete();
+  }
+}
@@ -0,0 +1,91 @@
+package com.bank.customer.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bank.customer.model.Customer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CustomerCacheTest {
+
+  private SimpleMeterRegistry registry;
+  private CustomerCache cache;
+
+  @BeforeEach
+  void setup() {
+    registry = new SimpleMeterRegistry();
+    cache = new CustomerCache(100, 60, registry);
+  }
+
+  @Test
+  void testPutAndGetByIdAndDocument() {
+    Customer customer = Customer.builder().id("1").documentNumber("123").build();
+    cache.put(customer);
+
+    assertEquals(customer, cache.getById("1").orElse(null));
+    assertEquals(customer, cache.getByDocumentNumber("123").orElse(null));
+  }
+
+  @Test
+  void testEvictRemovesBothKeys() {
+    cache.put(Customer.builder().id("1").documentNumber("123").build());
+    cache.evict("1");
+
+    assertFalse(cache.getById("1").isPresent());
+    assertFalse(cache.getByDocumentNumber("123").isPresent());
+  }
+
+  @Test
+  void testStaleDocumentIndexIsIgnored() {
+    cache.put(Customer.builder().id("1").documentNumber("123").build());
+    cache.put(Customer.builder().id("1").documentNumber("456").build());
+
+    assertFalse(cache.getByDocumentNumber("123").isPresent());
+    assertTrue(cache.getByDocumentNumber("456").isPresent());
+  }
+
+  @Test
+  void testReadStartedBeforeEvictDoesNotRepopulate() {
+    Customer old = Customer.builder().id("1").documentNumber("123").build();
+    long stamp = cache.evictionStamp();
+    cache.evict("1");
+    cache.putIfNotEvictedSince(old, stamp);
+
+    assertFalse(cache.getById("1").isPresent());
+    assertFalse(cache.getByDocumentNumber("123").isPresent());
+  }
+
+  @Test
+  void testReadStartedAfterEvictIsCached() {
+    cache.evict("1");
+    Customer current = Customer.builder().id("1").documentNumber("456").build();
+    cache.putIfNotEvictedSince(current, cache.evictionStamp());
+
+    assertEquals(current, cache.getById("1").orElse(null));
+    assertEquals(current, cache.getByDocumentNumber("456").orElse(null));
+  }
+
+  @Test
+  void testEvictOfOtherCustomerDoesNotDiscardRead() {
+    Customer customer = Customer.builder().id("1").build();
+    long stamp = cache.evictionStamp();
+    cache.evict("2");
+    cache.putIfNotEvictedSince(customer, stamp);
+
+    assertTrue(cache.getById("1").isPresent());
+  }
+
+  @Test
+  void testPublishesMetrics() {
+    cache.getById("missing");
+
+    assertEquals(1.0, registry.get("cache.gets")
+        .tag("cache", "customers.by-id")
+        .tag("result", "miss")
+        .functionCounter()
+        .count());
+  }
+}
@@ -0,0 +1,85 @@
+package com.bank.customer.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bank.customer.exception.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class AdaptiveConcurrencyLimiterTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void testRejectsFastWhenLimitIsReached() {
+    AdaptiveConcurrencyLimiter limiter =
+        new AdaptiveConcurrencyLimiter(true, 1, 1, 10, 0.5, 2.0, meterRegistry);
+    Disposable pending = limiter.limit(Flux.never(), "account").subscribe();
+
+    StepVerifier.create(limiter.limit(Flux.just("a"), "account"))
+      .expectError(ConcurrencyLimitExceededException.class)
+        .verify();
+
+    assertEquals(1.0, meterRegistry.counter(AdaptiveConcurrencyLimiter.REJECTED_COUNTER,
+        "downstream", "account").count());
+    pending.dispose();
+    assertEquals(0.0, meterRegistry.get(AdaptiveConcurrencyLimiter.IN_FLIGHT_GAUGE)
+        .tag("downstream", "account").gauge().value());
+  }
+
+  @Test
+  void testErrorsShrinkTheLimit() {
+    AdaptiveConcurrencyLimiter limiter =
+        new AdaptiveConcurrencyLimiter(true, 10, 2, 20, 0.5, 2.0, meterRegistry);
+
+    limiter.limit(Flux.error(new IllegalStateException("boom")), "credit")
+      .onErrorResume(ex -> Flux.empty())
+      .blockLast();
+
+    assertEquals(5, limiter.currentLimit("credit"));
+    assertEquals(5.0, meterRegistry.get(AdaptiveConcurrencyLimiter.LIMIT_GAUGE)
+        .tag("downstream", "credit").gauge().value());
+  }
+
+  @Test
+  void testSlowCallCancelledByCallerShrinksTheLimit() {
+    AdaptiveConcurrencyLimiter limiter =
+        new AdaptiveConcurrencyLimiter(true, 10, 2, 20, 0.5, 2.0, meterRegistry);
+    limiter.limit(Flux.just("c"), "credit").blockLast();
+
+    limiter.limit(Flux.never(), "credit")
+      .timeout(Duration.ofMillis(50))
+      .onErrorResume(ex -> Flux.empty())
+      .blockLast();
+
+    assertEquals(5, limiter.currentLimit("credit"));
+  }
+
+  @Test
+  void testCompletedMonoIsNotCountedAsCancelled() {
+    AdaptiveConcurrencyLimiter limiter =
+        new AdaptiveConcurrencyLimiter(true, 10, 2, 20, 0.5, 2.0, meterRegistry);
+
+    limiter.limit(Mono.just("c"), "credit").block();
+
+    assertEquals(10, limiter.currentLimit("credit"));
+  }
+
+  @Test
+  void testFastResponsesUnderLoadGrowTheLimit() {
+    AdaptiveConcurrencyLimiter limiter =
+        new AdaptiveConcurrencyLimiter(true, 2, 1, 20, 0.5, 1000.0, meterRegistry);
+    Disposable pending = limiter.limit(Flux.never(), "transaction").subscribe();
+
+    limiter.limit(Flux.just("t"), "transaction").blockLast();
+
+    assertTrue(limiter.currentLimit("transaction") > 2);
+    pending.dispose();
+  }
+}
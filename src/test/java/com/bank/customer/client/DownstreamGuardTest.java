@@ -0,0 +1,107 @@
+package com.bank.customer.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bank.customer.config.ResilienceProperties;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class DownstreamGuardTest {
+
+  private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+  private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+      .maxConcurrentCalls(1)
+      .build());
+  private final DownstreamGuard guard = new DownstreamGuard(
+      circuitBreakerRegistry, bulkheadRegistry, new ResilienceProperties(),
+      new AdaptiveConcurrencyLimiter(false, 20, 5, 200, 0.9, 2.0, new SimpleMeterRegistry()));
+
+  @Test
+  void testOpenCircuitRejectsWithoutCallingDownstream() {
+    circuitBreakerRegistry.circuitBreaker("credit").transitionToOpenState();
+    AtomicInteger calls = new AtomicInteger();
+
+    StepVerifier.create(Flux.defer(() -> {
+      calls.incrementAndGet();
+      return Flux.just("credit");
+    }).transform(guard.fluxGuard("credit")))
+      .expectErrorMatches(ex -> ex instanceof CallNotPermittedException
+        && DownstreamGuard.isRejected(ex))
+        .verify();
+
+    assertEquals(0, calls.get());
+  }
+
+  @Test
+  void testBulkheadRejectsConcurrentCallsOverLimit() {
+    Flux.never().transform(guard.fluxGuard("account")).subscribe();
+
+    StepVerifier.create(Flux.just("account").transform(guard.fluxGuard("account")))
+      .expectErrorMatches(ex -> ex instanceof BulkheadFullException)
+        .verify();
+
+    StepVerifier.create(Flux.just("credit").transform(guard.fluxGuard("credit")))
+      .expectNext("credit")
+        .verifyComplete();
+    assertTrue(DownstreamGuard.isRejected(
+        BulkheadFullException.createBulkheadFullException(bulkheadRegistry.bulkhead("account"))));
+  }
+
+  @Test
+  void testOpenBulkCircuitDoesNotRejectPerCustomerCalls() {
+    circuitBreakerRegistry.circuitBreaker("transaction" + DownstreamGuard.BULK_SUFFIX)
+        .transitionToOpenState();
+
+    StepVerifier.create(Flux.just("all").transform(guard.bulkFluxGuard("transaction")))
+      .expectErrorMatches(ex -> ex instanceof CallNotPermittedException)
+        .verify();
+
+    StepVerifier.create(Flux.just("customer").transform(guard.fluxGuard("transaction")))
+      .expectNext("customer")
+        .verifyComplete();
+  }
+
+  @Test
+  void testBulkReadsDoNotUseTheAdaptiveLimit() {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    AdaptiveConcurrencyLimiter limiter =
+        new AdaptiveConcurrencyLimiter(true, 1, 1, 10, 0.5, 2.0, meterRegistry);
+    DownstreamGuard limitedGuard = new DownstreamGuard(circuitBreakerRegistry,
+        BulkheadRegistry.ofDefaults(), new ResilienceProperties(), limiter);
+    Flux.never().transform(limitedGuard.bulkFluxGuard("account")).subscribe();
+
+    StepVerifier.create(Flux.just("customer").transform(limitedGuard.fluxGuard("account")))
+      .expectNext("customer")
+        .verifyComplete();
+    assertEquals(0.0, meterRegistry.get(AdaptiveConcurrencyLimiter.IN_FLIGHT_GAUGE)
+        .tag("downstream", "account").gauge().value());
+  }
+
+  @Test
+  void testSlowCallIsRecordedAsFailureBeforeCallerCancels() {
+    ResilienceProperties properties = new ResilienceProperties();
+    properties.setCallTimeout(Duration.ofMillis(50));
+    DownstreamGuard timedGuard = new DownstreamGuard(circuitBreakerRegistry,
+        BulkheadRegistry.ofDefaults(), properties,
+        new AdaptiveConcurrencyLimiter(false, 20, 5, 200, 0.9, 2.0, new SimpleMeterRegistry()));
+
+    StepVerifier.create(Flux.never().transform(timedGuard.fluxGuard("account"))
+        .timeout(Duration.ofSeconds(1)))
+      .expectError(TimeoutException.class)
+        .verify();
+
+    assertEquals(1, circuitBreakerRegistry.circuitBreaker("account")
+        .getMetrics().getNumberOfFailedCalls());
+  }
+}
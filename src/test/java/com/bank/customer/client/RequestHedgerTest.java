@@ -0,0 +1,80 @@
+package com.bank.customer.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class RequestHedgerTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private void warmUp(RequestHedger hedger) {
+    for (int i = 0; i < 20; i++) {
+      hedger.hedge(Flux.just("warm"), "account", "getCustomerAccounts").blockLast();
+    }
+  }
+
+  private double count(String event) {
+    return meterRegistry.counter(RequestHedger.HEDGE_COUNTER,
+        "downstream", "account", "method", "getCustomerAccounts", "event", event).count();
+  }
+
+  /**
+   * Fuente fría cuya primera suscripción tras el calentamiento es lenta.
+   */
+  private Flux<String> slowThenFast(AtomicInteger subscriptions) {
+    return Flux.defer(() -> subscriptions.incrementAndGet() == 1
+      ? Flux.just("primary").delayElements(Duration.ofSeconds(5))
+      : Flux.just("hedge"));
+  }
+
+  @Test
+  void testDisabledDoesNotHedge() {
+    RequestHedger hedger = new RequestHedger(false, 0.95, 10, 1.0, meterRegistry);
+    AtomicInteger subscriptions = new AtomicInteger();
+
+    StepVerifier.create(hedger.hedge(slowThenFast(subscriptions), "account", "getCustomerAccounts")
+        .timeout(Duration.ofMillis(200)))
+      .expectError()
+        .verify();
+
+    assertEquals(1, subscriptions.get());
+  }
+
+  @Test
+  void testSlowPrimaryIsHedgedAndHedgeWins() {
+    RequestHedger hedger = new RequestHedger(true, 0.95, 10, 1.0, meterRegistry);
+    warmUp(hedger);
+    AtomicInteger subscriptions = new AtomicInteger();
+
+    StepVerifier.create(hedger.hedge(slowThenFast(subscriptions), "account", "getCustomerAccounts"))
+      .expectNext("hedge")
+        .expectComplete()
+          .verify(Duration.ofSeconds(2));
+
+    assertEquals(2, subscriptions.get());
+    assertEquals(1.0, count("issued"));
+    assertEquals(1.0, count("won"));
+  }
+
+  @Test
+  void testNoHedgeWhenBudgetIsExhausted() {
+    RequestHedger hedger = new RequestHedger(true, 0.95, 10, 0.0, meterRegistry);
+    warmUp(hedger);
+    AtomicInteger subscriptions = new AtomicInteger();
+
+    StepVerifier.create(hedger.hedge(slowThenFast(subscriptions), "account", "getCustomerAccounts")
+        .timeout(Duration.ofMillis(300)))
+      .expectError()
+        .verify();
+
+    assertEquals(1, subscriptions.get());
+    assertEquals(1.0, count("budget_exhausted"));
+    assertEquals(0.0, count("issued"));
+  }
+}
@@ -0,0 +1,75 @@
+package com.bank.customer.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class SingleFlightTest {
+
+  private final SingleFlight singleFlight = new SingleFlight();
+
+  @Test
+  void testConcurrentSubscribersShareOneCall() {
+    AtomicInteger calls = new AtomicInteger();
+    Sinks.Many<String> response = Sinks.many().unicast().onBackpressureBuffer();
+
+    Flux<String> first = singleFlight.flux("accounts:all", () -> {
+      calls.incrementAndGet();
+      return response.asFlux();
+    });
+    Flux<String> second = singleFlight.flux("accounts:all", () -> {
+      calls.incrementAndGet();
+      return Flux.just("other");
+    });
+
+    StepVerifier.create(Flux.merge(first, second).collectList())
+      .then(() -> {
+        response.tryEmitNext("a");
+        response.tryEmitComplete();
+      })
+      .expectNextMatches(values -> values.size() == 2 && values.stream().allMatch("a"::equals))
+        .verifyComplete();
+
+    assertEquals(1, calls.get());
+    assertEquals(0, singleFlight.inFlightCount());
+  }
+
+  @Test
+  void testSequentialSubscribersCallAgain() {
+    AtomicInteger calls = new AtomicInteger();
+
+    for (int i = 0; i < 2; i++) {
+      StepVerifier.create(singleFlight.mono("credits:customer:1", () -> {
+        calls.incrementAndGet();
+        return Mono.just("credit");
+      }))
+        .expectNext("credit")
+          .verifyComplete();
+    }
+
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void testDifferentKeysDoNotShare() {
+    AtomicInteger calls = new AtomicInteger();
+    Sinks.One<String> pending = Sinks.one();
+
+    singleFlight.mono("a", () -> {
+      calls.incrementAndGet();
+      return pending.asMono();
+    }).subscribe();
+    singleFlight.mono("b", () -> {
+      calls.incrementAndGet();
+      return pending.asMono();
+    }).subscribe();
+
+    assertEquals(2, calls.get());
+    pending.tryEmitValue("done");
+  }
+}
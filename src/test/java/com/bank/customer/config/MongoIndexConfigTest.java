@@ -0,0 +1,51 @@
+package com.bank.customer.config;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bank.customer.model.Customer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.ReactiveIndexOperations;
+import reactor.core.publisher.Mono;
+
+class MongoIndexConfigTest {
+
+  private ReactiveMongoTemplate mongoTemplate;
+  private ReactiveIndexOperations customerIndexOps;
+  private ReactiveIndexOperations otherIndexOps;
+  private MongoIndexConfig config;
+
+  @BeforeEach
+  void setup() {
+    mongoTemplate = mock(ReactiveMongoTemplate.class);
+    customerIndexOps = mock(ReactiveIndexOperations.class);
+    otherIndexOps = mock(ReactiveIndexOperations.class);
+    when(mongoTemplate.indexOps(any(Class.class))).thenReturn(otherIndexOps);
+    when(mongoTemplate.indexOps(Customer.class)).thenReturn(customerIndexOps);
+    when(otherIndexOps.ensureIndex(any())).thenReturn(Mono.just("ix"));
+    config = new MongoIndexConfig(mongoTemplate);
+  }
+
+  @Test
+  void testEnsureIndexesDoesNotBlockOrFailStartup() {
+    when(customerIndexOps.ensureIndex(any())).thenReturn(Mono.never());
+
+    assertDoesNotThrow(config::ensureIndexes);
+  }
+
+  @Test
+  void testIndexErrorIsLoggedAndOtherCollectionsContinue() {
+    when(customerIndexOps.ensureIndex(any()))
+      .thenReturn(Mono.error(new DuplicateKeyException("E11000 duplicate key")));
+
+    assertDoesNotThrow(config::ensureIndexes);
+    verify(otherIndexOps, times(3)).ensureIndex(any());
+  }
+}
@@ -0,0 +1,89 @@
+package com.bank.customer.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.netty.handler.timeout.ReadTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.test.StepVerifier;
+
+class WebClientConfigTest {
+
+  private final AtomicInteger connections = new AtomicInteger();
+  private DisposableServer server;
+  private ConnectionProvider connectionProvider;
+  private WebClient webClient;
+
+  @BeforeEach
+  void setup() {
+    server = HttpServer.create()
+      .port(0)
+      .doOnChannelInit((observer, channel, address) -> connections.incrementAndGet())
+      .route(routes -> routes
+        .get("/fast", (request, response) -> response.sendString(Mono.just("ok")))
+        .get("/slow", (request, response) -> response.sendString(
+          Mono.just("late").delayElement(Duration.ofSeconds(3)))))
+      .bindNow();
+
+    WebClientProperties properties = new WebClientProperties();
+    properties.setReadTimeout(Duration.ofMillis(500));
+    properties.getPool().setMaxConnections(1);
+    WebClientConfig config = new WebClientConfig();
+    connectionProvider = config.downstreamConnectionProvider(properties, new MockEnvironment());
+    webClient = config.webClient(connectionProvider, properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    connectionProvider.dispose();
+    server.disposeNow();
+  }
+
+  private Mono<String> get(String path) {
+    return webClient.get()
+      .uri("http://localhost:" + server.port() + path)
+      .retrieve()
+      .bodyToMono(String.class);
+  }
+
+  @Test
+  void testSlowResponseTimesOut() {
+    StepVerifier.create(get("/slow"))
+      .expectErrorMatches(ex -> ex.getCause() instanceof ReadTimeoutException)
+        .verify(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void testReusedConnectionStillTimesOut() {
+    StepVerifier.create(get("/fast"))
+      .expectNext("ok")
+        .verifyComplete();
+    StepVerifier.create(get("/slow"))
+      .expectErrorMatches(ex -> ex.getCause() instanceof ReadTimeoutException)
+        .verify(Duration.ofSeconds(5));
+
+    assertEquals(1, connections.get());
+  }
+
+  @Test
+  void testIdlePooledConnectionOutlivesReadTimeout() throws InterruptedException {
+    StepVerifier.create(get("/fast"))
+      .expectNext("ok")
+        .verifyComplete();
+    Thread.sleep(1000);
+    StepVerifier.create(get("/fast"))
+      .expectNext("ok")
+        .verifyComplete();
+
+    assertEquals(1, connections.get());
+  }
+}
@@ -2,20 +2,43 @@ package com.bank.customer.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.bank.customer.exception.GlobalExceptionHandler;
+import com.bank.customer.exception.ResourceNotFoundException;
+import com.bank.customer.model.CustomerBatchGetRequest;
+import com.bank.customer.model.CustomerImportResult;
+import com.bank.customer.model.CustomerImportStatusEnum;
+import com.bank.customer.model.CustomerMonthlySummary;
+import com.bank.customer.model.CustomerPage;
 import com.bank.customer.model.CustomerRequest;
 import com.bank.customer.model.CustomerResponse;
 import com.bank.customer.model.CustomerTypeEnum;
+import com.bank.customer.model.ProductReportRequest;
+import com.bank.customer.model.ProductReportResponse;
+import com.bank.customer.model.ReportJobResponse;
+import com.bank.customer.service.CustomerImportService;
 import com.bank.customer.service.CustomerService;
+import com.bank.customer.service.ReportJobService;
+import com.bank.customer.service.bulk.ImportFormat;
+import com.bank.customer.service.report.ReportExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -25,6 +48,12 @@ class CustomerControllerTest {
   @Mock
   private CustomerService service;
 
+  @Mock
+  private ReportJobService reportJobService;
+
+  @Mock
+  private CustomerImportService importService;
+
   @InjectMocks
   private CustomerController controller;
 
@@ -78,6 +107,32 @@ class CustomerControllerTest {
         .verifyComplete();
   }
 
+  @Test
+  void testGetPage() {
+    CustomerPage page = new CustomerPage();
+    page.setNextCursor("1");
+    when(service.findPage("0", 10)).thenReturn(Mono.just(page));
+
+    StepVerifier.create(controller.getPage("0", 10, exchange))
+      .consumeNextWith(res -> {
+        assertEquals(HttpStatus.OK, res.getStatusCode());
+        assertEquals("1", res.getBody().getNextCursor());
+      })
+        .verifyComplete();
+  }
+
+  @Test
+  void testStreamAll() {
+    when(service.streamAll()).thenReturn(Flux.just(response));
+
+    StepVerifier.create(controller.streamAll(exchange))
+      .consumeNextWith(res -> {
+        assertEquals(HttpStatus.OK, res.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, res.getHeaders().getContentType());
+      })
+        .verifyComplete();
+  }
+
   @Test
   void testGetByIdFound() {
     when(service.findById("1")).thenReturn(Mono.just(response));
@@ -96,6 +151,16 @@ class CustomerControllerTest {
         .verifyComplete();
   }
 
+  @Test
+  void testBatchGetBadRequestWhenTooManyKeys() {
+    when(service.batchGet(any()))
+      .thenReturn(Mono.error(new IllegalArgumentException("too many keys")));
+
+    StepVerifier.create(controller.batchGet(Mono.just(new CustomerBatchGetRequest()), exchange))
+      .consumeNextWith(res -> assertEquals(HttpStatus.BAD_REQUEST, res.getStatusCode()))
+        .verifyComplete();
+  }
+
   @Test
   void testUpdateSuccess() {
     when(service.update(any(), any())).thenReturn(Mono.just(response));
@@ -113,4 +178,122 @@ class CustomerControllerTest {
       .consumeNextWith(res -> assertEquals(HttpStatus.NO_CONTENT, res.getStatusCode()))
         .verifyComplete();
   }
-}
\ No newline at end of file
+
+  @Test
+  void testCreateProductReportJobAccepted() {
+    ReportJobResponse job = new ReportJobResponse();
+    job.setId("job-1");
+    when(reportJobService.submit(any())).thenReturn(Mono.just(job));
+
+    StepVerifier.create(controller.createProductReportJob(
+        Mono.just(new ProductReportRequest()), exchange))
+      .consumeNextWith(res -> {
+        assertEquals(HttpStatus.ACCEPTED, res.getStatusCode());
+        assertEquals("job-1", res.getBody().getId());
+      })
+      .verifyComplete();
+  }
+
+  @Test
+  void testGetMonthlySummaryOfClosedPeriodReadsHistory() {
+    CustomerMonthlySummary summary = new CustomerMonthlySummary();
+    summary.setCustomerId("1");
+    when(service.findMonthlySummary("1", YearMonth.of(2024, 9))).thenReturn(Mono.just(summary));
+
+    StepVerifier.create(controller.getCustomerMonthlySummary("1", "2024-09", exchange))
+      .consumeNextWith(res -> {
+        assertEquals(HttpStatus.OK, res.getStatusCode());
+        assertEquals("1", res.getBody().getCustomerId());
+      })
+      .verifyComplete();
+
+    verify(service, never()).generateMonthlySummary(any());
+  }
+
+  @Test
+  void testGetMonthlySummaryRejectsInvalidPeriod() {
+    StepVerifier.create(controller.getCustomerMonthlySummary("1", "2024-13", exchange))
+      .consumeNextWith(res -> assertEquals(HttpStatus.BAD_REQUEST, res.getStatusCode()))
+      .verifyComplete();
+  }
+
+  @Test
+  void testGenerateProductReportReturns503WhenReportPoolIsFull() throws InterruptedException {
+    ReportExecutor reportExecutor = new ReportExecutor(1, 1, new SimpleMeterRegistry());
+    CountDownLatch running = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      reportExecutor.assemble(() -> {
+        running.countDown();
+        release.await();
+        return "first";
+      }).subscribe();
+      running.await();
+      reportExecutor.assemble(() -> "queued").subscribe();
+      when(service.generateProductReport(any(ProductReportRequest.class)))
+        .thenReturn(reportExecutor.assemble(ProductReportResponse::new));
+
+      webTestClient().post()
+        .uri("/customers/reports/products")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue("{\"startDate\":\"2024-10-01\",\"endDate\":\"2024-10-31\"}")
+        .exchange()
+        .expectStatus().isEqualTo(HttpStatus.SERVICE_UNAVAILABLE)
+        .expectBody()
+        .jsonPath("$.status").isEqualTo(503);
+    } finally {
+      release.countDown();
+      reportExecutor.destroy();
+    }
+  }
+
+  @Test
+  void testConsolidatedSummaryReturns404ForMissingCustomer() {
+    when(service.getConsolidatedSummary(eq("99"), any()))
+      .thenReturn(Mono.error(new ResourceNotFoundException("Customer not found with id: 99")));
+
+    webTestClient().get()
+      .uri("/customers/99/consolidated-summary")
+      .exchange()
+      .expectStatus().isNotFound();
+  }
+
+  @Test
+  void testConsolidatedSummaryReturns500ForErrorWithoutMessage() {
+    when(service.getConsolidatedSummary(eq("1"), any()))
+      .thenReturn(Mono.error(new IllegalStateException()));
+
+    webTestClient().get()
+      .uri("/customers/1/consolidated-summary")
+      .exchange()
+      .expectStatus().isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+  }
+
+  @Test
+  void testImportCustomersStreamsCsvLinesToService() {
+    CustomerImportResult created = new CustomerImportResult()
+        .line(2L)
+        .status(CustomerImportStatusEnum.CREATED);
+    when(importService.importCustomers(any(), eq(ImportFormat.CSV))).thenAnswer(invocation ->
+        invocation.<Flux<String>>getArgument(0).collectList()
+          .filter(lines -> lines.equals(List.of("documentNumber,firstName", "111,Ana")))
+          .map(lines -> created)
+          .flux());
+
+    webTestClient().post()
+      .uri("/customers/import")
+      .contentType(new MediaType("text", "csv"))
+      .bodyValue("documentNumber,firstName\n111,Ana\n")
+      .exchange()
+      .expectStatus().isOk()
+      .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+      .expectBody()
+      .jsonPath("$.status").isEqualTo("CREATED");
+  }
+
+  private WebTestClient webTestClient() {
+    return WebTestClient.bindToController(controller)
+      .controllerAdvice(new GlobalExceptionHandler())
+      .build();
+  }
+}
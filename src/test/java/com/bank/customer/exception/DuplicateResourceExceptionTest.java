@@ -0,0 +1,14 @@
+package com.bank.customer.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class DuplicateResourceExceptionTest {
+
+  @Test
+  void testExceptionMessage() {
+    DuplicateResourceException ex = new DuplicateResourceException("Customer already exists");
+    assertEquals("Customer already exists", ex.getMessage());
+  }
+}
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Method;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
@@ -46,6 +47,34 @@ class GlobalExceptionHandlerTest {
         .verifyComplete();
   }
 
+  @Test
+  void testHandleConflict() {
+    DuplicateResourceException ex = new DuplicateResourceException("Already exists");
+    ServerWebExchange exchange = MockServerWebExchange.from(
+        MockServerHttpRequest.post("/api/test").build()
+    );
+
+    StepVerifier.create(handler.handleConflict(ex, exchange))
+      .consumeNextWith(response -> {
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("Already exists", response.getBody().getMessage());
+      })
+        .verifyComplete();
+  }
+
+  @Test
+  void testHandleRejected() {
+    RejectedExecutionException ex = new RejectedExecutionException("Queue full");
+    ServerWebExchange exchange = MockServerWebExchange.from(
+        MockServerHttpRequest.post("/api/test").build()
+    );
+
+    StepVerifier.create(handler.handleRejected(ex, exchange))
+      .consumeNextWith(response ->
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode()))
+        .verifyComplete();
+  }
+
   @Test
   void testHandleValidationException() throws Exception {
     BindException bindException = new BindException(new Object(), "test");
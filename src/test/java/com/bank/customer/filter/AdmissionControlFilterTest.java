@@ -0,0 +1,95 @@
+package com.bank.customer.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.bank.customer.config.AdmissionProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class AdmissionControlFilterTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final WebFilterChain pendingChain = exchange -> Mono.never();
+  private final WebFilterChain okChain = exchange -> Mono.empty();
+
+  private AdmissionControlFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    AdmissionProperties properties = new AdmissionProperties();
+    properties.getRoutes().put(RouteClass.REPORT, new AdmissionProperties.Limits(
+        1, 1, Duration.ofMillis(50), Duration.ofSeconds(7)));
+    filter = new AdmissionControlFilter(properties,
+        new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+  }
+
+  private MockServerWebExchange report() {
+    return MockServerWebExchange.from(
+        MockServerHttpRequest.post("/bank/v1/customers/reports/products"));
+  }
+
+  @Test
+  void testClassifiesRoutes() {
+    assertEquals(RouteClass.REPORT, RouteClass.of(report().getRequest()));
+    assertEquals(RouteClass.SUMMARY, RouteClass.of(MockServerHttpRequest
+        .get("/bank/v1/customers/1/consolidated-summary").build()));
+    assertEquals(RouteClass.CRUD, RouteClass.of(MockServerHttpRequest
+        .get("/bank/v1/customers/1").build()));
+  }
+
+  @Test
+  void testRejectsReportWhenQueueIsFullButServesCrud() {
+    Disposable running = filter.filter(report(), pendingChain).subscribe();
+    Disposable queued = filter.filter(report(), pendingChain).subscribe();
+
+    MockServerWebExchange rejected = report();
+    StepVerifier.create(filter.filter(rejected, okChain)).verifyComplete();
+    assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejected.getResponse().getStatusCode());
+    assertEquals("7", rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+
+    MockServerWebExchange crud = MockServerWebExchange.from(
+        MockServerHttpRequest.get("/bank/v1/customers/1"));
+    StepVerifier.create(filter.filter(crud, okChain)).verifyComplete();
+    assertNull(crud.getResponse().getStatusCode());
+
+    assertEquals(1.0, meterRegistry.counter(AdmissionControlFilter.REJECTED_COUNTER,
+        "route", "report", "status", "429").count());
+    running.dispose();
+    queued.dispose();
+  }
+
+  @Test
+  void testQueuedRequestTimesOutWith503() {
+    Disposable running = filter.filter(report(), pendingChain).subscribe();
+
+    MockServerWebExchange timedOut = report();
+    StepVerifier.create(filter.filter(timedOut, okChain)).verifyComplete();
+    assertEquals(HttpStatus.SERVICE_UNAVAILABLE, timedOut.getResponse().getStatusCode());
+    running.dispose();
+  }
+
+  @Test
+  void testReleasedPermitAdmitsQueuedRequest() {
+    Disposable running = filter.filter(report(), pendingChain).subscribe();
+    MockServerWebExchange queued = report();
+    Mono<Void> waiting = filter.filter(queued, okChain);
+
+    StepVerifier.create(waiting)
+      .then(running::dispose)
+        .verifyComplete();
+    assertNull(queued.getResponse().getStatusCode());
+  }
+}
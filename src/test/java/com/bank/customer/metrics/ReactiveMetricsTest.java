@@ -0,0 +1,53 @@
+package com.bank.customer.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ReactiveMetricsTest {
+
+  private SimpleMeterRegistry registry;
+  private ReactiveMetrics metrics;
+
+  @BeforeEach
+  void setup() {
+    registry = new SimpleMeterRegistry();
+    metrics = new ReactiveMetrics(registry);
+  }
+
+  @Test
+  void testTimeMonoRecordsSuccess() {
+    StepVerifier.create(metrics.timeMono(Mono.just("ok"), "test.timer", "method", "find"))
+      .expectNext("ok")
+        .verifyComplete();
+
+    assertEquals(1, registry.get("test.timer")
+        .tag("method", "find")
+        .tag("outcome", "success")
+        .timer()
+        .count());
+  }
+
+  @Test
+  void testTimeFluxRecordsErrorAndCounter() {
+    Flux<String> failing = Flux.error(new IllegalStateException("boom"));
+
+    StepVerifier.create(metrics.timeFlux(failing, "test.timer", "method", "all"))
+      .expectError(IllegalStateException.class)
+        .verify();
+
+    assertEquals(1, registry.get("test.timer")
+        .tag("outcome", "error")
+        .timer()
+        .count());
+    assertEquals(1.0, registry.get("test.timer.errors")
+        .tag("exception", "IllegalStateException")
+        .counter()
+        .count());
+  }
+}
@@ -0,0 +1,54 @@
+package com.bank.customer.service.bulk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bank.customer.model.CustomerTypeEnum;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class CustomerRecordParserTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void testParsesCsvUsingHeader() {
+    CustomerRecordParser parser = new CustomerRecordParser(ImportFormat.CSV, objectMapper);
+
+    assertNull(parser.parse(1, "documentType,documentNumber,firstName,lastName,customerType"));
+    ImportRecord record = parser.parse(2, "DNI,12345678,Juan,\"Pérez, Jr.\",PERSONAL");
+
+    assertTrue(record.isValid());
+    assertEquals("12345678", record.getDocumentNumber());
+    assertEquals("Pérez, Jr.", record.getRequest().getLastName());
+    assertEquals(CustomerTypeEnum.PERSONAL, record.getRequest().getCustomerType());
+  }
+
+  @Test
+  void testCsvRowWithWrongColumnCountIsInvalid() {
+    CustomerRecordParser parser = new CustomerRecordParser(ImportFormat.CSV, objectMapper);
+    parser.parse(1, "documentType,documentNumber");
+
+    ImportRecord record = parser.parse(2, "DNI,123,extra");
+
+    assertFalse(record.isValid());
+    assertEquals(2, record.getLine());
+  }
+
+  @Test
+  void testMalformedJsonIsInvalid() {
+    CustomerRecordParser parser = new CustomerRecordParser(ImportFormat.NDJSON, objectMapper);
+
+    assertTrue(parser.parse(1, "{\"documentNumber\":\"123\"}").isValid());
+    assertFalse(parser.parse(2, "{\"documentNumber\":").isValid());
+  }
+
+  @Test
+  void testSplitHandlesEscapedQuotes() {
+    assertEquals(Arrays.asList("a", "say \"hi\"", ""),
+        CustomerRecordParser.split("a,\"say \"\"hi\"\"\","));
+  }
+}
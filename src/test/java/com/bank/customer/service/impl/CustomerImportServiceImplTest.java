@@ -0,0 +1,135 @@
+package com.bank.customer.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bank.customer.mapper.CustomerMapper;
+import com.bank.customer.metrics.ReactiveMetrics;
+import com.bank.customer.model.Customer;
+import com.bank.customer.model.CustomerImportStatusEnum;
+import com.bank.customer.model.CustomerRequest;
+import com.bank.customer.repository.CustomerRepository;
+import com.bank.customer.service.bulk.ImportFormat;
+import com.bank.customer.service.report.ReportRollupStore;
+import com.bank.customer.util.ValidationHelper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class CustomerImportServiceImplTest {
+
+  @Mock
+  private CustomerMapper mapper;
+
+  @Mock
+  private ValidationHelper validationHelper;
+
+  @Mock
+  private CustomerRepository repository;
+
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper();
+
+  @Spy
+  private ReactiveMetrics reactiveMetrics = new ReactiveMetrics(new SimpleMeterRegistry());
+
+  @Mock
+  private ReportRollupStore reportRollupStore;
+
+  @InjectMocks
+  private CustomerImportServiceImpl service;
+
+  @BeforeEach
+  void setup() {
+    MockitoAnnotations.openMocks(this);
+    ReflectionTestUtils.setField(service, "batchSize", 2);
+    when(reportRollupStore.recordCreated(anyList())).thenReturn(Mono.empty());
+
+    when(mapper.toEntity(any())).thenAnswer(invocation -> Customer.builder()
+        .documentNumber(invocation.getArgument(0, CustomerRequest.class).getDocumentNumber())
+        .build());
+    when(validationHelper.validateAsync(any())).thenAnswer(invocation -> {
+      CustomerRequest request = invocation.getArgument(0);
+      if (request.getFirstName() == null) {
+        BeanPropertyBindingResult errors =
+            new BeanPropertyBindingResult(request, "customerRequest");
+        errors.rejectValue("firstName", "NotNull", "must not be null");
+        return Mono.error(new WebExchangeBindException(null, errors));
+      }
+      return Mono.just(request);
+    });
+  }
+
+  @Test
+  void testImportReportsEachRecordInFileOrder() {
+    when(repository.insertUnordered(any())).thenAnswer(invocation -> {
+      List<Customer> customers = invocation.getArgument(0);
+      for (int i = 0; i < customers.size(); i++) {
+        customers.get(i).setId("id-" + customers.get(i).getDocumentNumber());
+      }
+      return Mono.just(customers.size() > 1
+          ? Collections.singletonMap(1, 11000)
+          : Map.<Integer, Integer>of());
+    });
+
+    Flux<String> lines = Flux.just(
+        "documentNumber,firstName",
+        "111,Ana",
+        "111,Ana",
+        "",
+        "222,",
+        "333,Luis");
+
+    StepVerifier.create(service.importCustomers(lines, ImportFormat.CSV))
+      .consumeNextWith(result -> {
+        assertEquals(2L, result.getLine());
+        assertEquals(CustomerImportStatusEnum.CREATED, result.getStatus());
+        assertEquals("id-111", result.getId());
+      })
+      .consumeNextWith(result ->
+        assertEquals(CustomerImportStatusEnum.DUPLICATE, result.getStatus()))
+      .consumeNextWith(result -> {
+        assertEquals(5L, result.getLine());
+        assertEquals(CustomerImportStatusEnum.INVALID, result.getStatus());
+        assertEquals("222", result.getDocumentNumber());
+      })
+      .consumeNextWith(result -> assertEquals(CustomerImportStatusEnum.CREATED, result.getStatus()))
+        .verifyComplete();
+
+    verify(repository, times(1)).insertUnordered(argThat(batch -> batch.size() == 2));
+    verify(repository, times(1)).insertUnordered(argThat(batch -> batch.size() == 1));
+    verify(reportRollupStore, times(2))
+      .recordCreated(argThat((List<Customer> created) -> created.size() == 1));
+  }
+
+  @Test
+  void testBatchFailureMarksRecordsAsFailedAndContinues() {
+    when(repository.insertUnordered(any()))
+      .thenReturn(Mono.error(new IllegalStateException("connection lost")));
+
+    Flux<String> lines = Flux.just("{\"documentNumber\":\"1\",\"firstName\":\"Ana\"}");
+
+    StepVerifier.create(service.importCustomers(lines, ImportFormat.NDJSON))
+      .consumeNextWith(result -> assertEquals(CustomerImportStatusEnum.FAILED, result.getStatus()))
+        .verifyComplete();
+  }
+}
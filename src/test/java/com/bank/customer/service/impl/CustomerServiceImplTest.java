@@ -1,26 +1,68 @@
 package com.bank.customer.service.impl;
 
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.bank.customer.cache.ConsolidatedSummaryCache;
+import com.bank.customer.cache.CustomerCache;
+import com.bank.customer.cache.LastKnownGoodCache;
+import com.bank.customer.client.AccountServiceClient;
+import com.bank.customer.client.CreditServiceClient;
+import com.bank.customer.client.TransactionServiceClient;
+import com.bank.customer.exception.DuplicateResourceException;
 import com.bank.customer.exception.ResourceNotFoundException;
 import com.bank.customer.mapper.CustomerMapper;
+import com.bank.customer.metrics.ReactiveMetrics;
+import com.bank.customer.model.AccountSummary;
 import com.bank.customer.model.Customer;
+import com.bank.customer.model.CustomerBatchGetRequest;
+import com.bank.customer.model.CustomerLookupKeyEnum;
+import com.bank.customer.model.CustomerMonthlySummary;
 import com.bank.customer.model.CustomerRequest;
 import com.bank.customer.model.CustomerResponse;
+import com.bank.customer.model.CustomerTypeCount;
 import com.bank.customer.model.CustomerTypeEnum;
+import com.bank.customer.model.ProductReportRequest;
+import com.bank.customer.model.ReportSourceEnum;
+import com.bank.customer.model.ReportTypeEnum;
+import com.bank.customer.model.SectionStatusEnum;
+import com.bank.customer.model.response.AccountResponse;
+import com.bank.customer.model.response.CreditResponse;
 import com.bank.customer.repository.CustomerRepository;
+import com.bank.customer.service.report.MonthlySummaryStore;
+import com.bank.customer.service.report.ProductReportAggregator;
+import com.bank.customer.service.report.ReportAssembler;
+import com.bank.customer.service.report.ReportExecutor;
+import com.bank.customer.service.report.ReportRollupStore;
+import com.bank.customer.service.report.SummarySection;
 import com.bank.customer.util.ValidationHelper;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 class CustomerServiceImplTest {
@@ -34,6 +76,41 @@ class CustomerServiceImplTest {
   @Mock
   private ValidationHelper validationHelper;
 
+  @Mock
+  private AccountServiceClient accountServiceClient;
+
+  @Mock
+  private CreditServiceClient creditServiceClient;
+
+  @Mock
+  private TransactionServiceClient transactionServiceClient;
+
+  @Spy
+  private CustomerCache customerCache = new CustomerCache(100, 60, new SimpleMeterRegistry());
+
+  @Spy
+  private ConsolidatedSummaryCache consolidatedSummaryCache =
+      new ConsolidatedSummaryCache(100, 30, 600, new SimpleMeterRegistry());
+
+  @Spy
+  private LastKnownGoodCache lastKnownGoodCache =
+      new LastKnownGoodCache(100, 3600, new SimpleMeterRegistry());
+
+  @Spy
+  private ReactiveMetrics reactiveMetrics = new ReactiveMetrics(new SimpleMeterRegistry());
+
+  @Spy
+  private ReportAssembler reportAssembler = new ReportAssembler();
+
+  @Spy
+  private ReportExecutor reportExecutor = new ReportExecutor(1, 16, new SimpleMeterRegistry());
+
+  @Mock
+  private ReportRollupStore reportRollupStore;
+
+  @Mock
+  private MonthlySummaryStore monthlySummaryStore;
+
   @InjectMocks
   private CustomerServiceImpl service;
 
@@ -74,6 +151,240 @@ class CustomerServiceImplTest {
     when(mapper.toResponse(any())).thenReturn(response);
     when(mapper.toEntity(any())).thenReturn(customer);
     when(validationHelper.validateAsync(any())).thenReturn(Mono.just(request));
+    when(reportRollupStore.recordCreated(any(Customer.class))).thenReturn(Mono.empty());
+    when(reportRollupStore.recordDeleted(any())).thenReturn(Mono.empty());
+    when(reportRollupStore.recordTypeChanged(any(), any())).thenReturn(Mono.empty());
+    when(reportRollupStore.load(any(), any(), any())).thenReturn(Mono.empty());
+    when(monthlySummaryStore.find(any(), any())).thenReturn(Mono.empty());
+    when(monthlySummaryStore.save(any(), any(), any())).thenReturn(Mono.just(true));
+  }
+
+  @Test
+  void testGenerateMonthlySummaryServesStoredSummary() {
+    CustomerMonthlySummary stored = new CustomerMonthlySummary();
+    stored.setCustomerId("1");
+    when(monthlySummaryStore.find(eq("1"), any())).thenReturn(Mono.just(stored));
+
+    StepVerifier.create(service.generateMonthlySummary("1"))
+      .expectNext(stored)
+        .verifyComplete();
+
+    verify(accountServiceClient, never()).getCustomerAccountsWithDailyBalances(any());
+    verify(creditServiceClient, never()).getCustomerCreditsWithDailyBalances(any());
+  }
+
+  @Test
+  void testGenerateMonthlySummaryComputesLiveAndStoresCompleteSummary() {
+    AccountSummary account = new AccountSummary();
+    account.setId("a1");
+    account.setDailyAverage(100.0);
+    when(accountServiceClient.getCustomerAccountsWithDailyBalances("1"))
+      .thenReturn(Flux.just(account));
+    when(creditServiceClient.getCustomerCreditsWithDailyBalances("1")).thenReturn(Flux.empty());
+    ReflectionTestUtils.setField(service, "summaryBudgetMs", 1000L);
+    ReflectionTestUtils.setField(service, "summaryLegShare", 0.8);
+
+    StepVerifier.create(service.generateMonthlySummary("1"))
+      .consumeNextWith(summary -> {
+        assertEquals(100.0, summary.getTotalDailyAverage());
+        assertEquals(SectionStatusEnum.OK, summary.getAccountsStatus());
+      })
+        .verifyComplete();
+
+    verify(monthlySummaryStore).save(eq("1"), eq(MonthlySummaryStore.currentPeriod()), any());
+  }
+
+  @Test
+  void testGenerateMonthlySummaryReturnsSummaryWhenStoreFails() {
+    when(accountServiceClient.getCustomerAccountsWithDailyBalances("1")).thenReturn(Flux.empty());
+    when(creditServiceClient.getCustomerCreditsWithDailyBalances("1")).thenReturn(Flux.empty());
+    when(monthlySummaryStore.save(any(), any(), any()))
+      .thenReturn(Mono.error(new IllegalStateException("mongo down")));
+    ReflectionTestUtils.setField(service, "summaryBudgetMs", 1000L);
+    ReflectionTestUtils.setField(service, "summaryLegShare", 0.8);
+
+    StepVerifier.create(service.generateMonthlySummary("1"))
+      .consumeNextWith(summary -> assertEquals(SectionStatusEnum.OK,
+        summary.getAccountsStatus()))
+        .verifyComplete();
+
+    verify(monthlySummaryStore).save(eq("1"), eq(MonthlySummaryStore.currentPeriod()), any());
+  }
+
+  @Test
+  void testGetConsolidatedSummaryOnlyCallsRequestedServices() {
+    AccountResponse account = new AccountResponse();
+    account.setId("a1");
+    account.setAccountType("AHORRO");
+    account.setStatus("ACTIVO");
+    account.setBalance(150.0);
+    when(repository.findById("1")).thenReturn(Mono.just(customer));
+    when(accountServiceClient.getCustomerAccounts("1")).thenReturn(Flux.just(account));
+    ReflectionTestUtils.setField(service, "summaryBudgetMs", 1000L);
+    ReflectionTestUtils.setField(service, "summaryLegShare", 0.8);
+
+    StepVerifier.create(service.getConsolidatedSummary("1", EnumSet.of(SummarySection.ACCOUNTS)))
+      .consumeNextWith(summary -> {
+        assertEquals(1, summary.getAccounts().size());
+        assertEquals(SectionStatusEnum.OK, summary.getAccountsStatus());
+        assertNull(summary.getCreditsStatus());
+        assertNull(summary.getCustomer());
+        assertNull(summary.getTotalBalance());
+        assertNull(summary.getProductsOverview());
+      })
+        .verifyComplete();
+
+    verify(creditServiceClient, never()).getCustomerCredits(any());
+    verify(transactionServiceClient, never()).getRecentTransactions(any());
+  }
+
+  @Test
+  void testGetConsolidatedSummaryMarksSlowSectionAsTimeout() {
+    when(repository.findById("1")).thenReturn(Mono.just(customer));
+    when(accountServiceClient.getCustomerAccounts("1")).thenReturn(Flux.empty());
+    when(creditServiceClient.getCustomerCredits("1")).thenReturn(Flux.never());
+    when(transactionServiceClient.getRecentTransactions("1"))
+      .thenReturn(Flux.error(new IllegalStateException("boom")));
+    ReflectionTestUtils.setField(service, "summaryBudgetMs", 100L);
+    ReflectionTestUtils.setField(service, "summaryLegShare", 0.8);
+
+    StepVerifier.create(service.getConsolidatedSummary("1",
+        EnumSet.of(SummarySection.ACCOUNTS, SummarySection.CREDITS,
+          SummarySection.RECENT_TRANSACTIONS)))
+      .consumeNextWith(summary -> {
+        assertEquals(SectionStatusEnum.OK, summary.getAccountsStatus());
+        assertEquals(SectionStatusEnum.TIMEOUT, summary.getCreditsStatus());
+        assertEquals(SectionStatusEnum.ERROR, summary.getTransactionsStatus());
+        assertEquals(0, summary.getCredits().size());
+      })
+        .verifyComplete();
+  }
+
+  @Test
+  void testGetConsolidatedSummaryNotFound() {
+    when(repository.findById("99")).thenReturn(Mono.empty());
+
+    StepVerifier.create(service.getConsolidatedSummary("99",
+        EnumSet.allOf(SummarySection.class)))
+      .expectError(ResourceNotFoundException.class)
+        .verify();
+    verify(accountServiceClient, never()).getCustomerAccounts(any());
+  }
+
+  @Test
+  void testGetConsolidatedSummaryServesStaleWhenCircuitIsOpen() {
+    CreditResponse credit = new CreditResponse();
+    credit.setId("c1");
+    credit.setCreditType("PRESTAMO_PERSONAL");
+    credit.setStatus("ACTIVO");
+    credit.setOutstandingBalance(100.0);
+    when(repository.findById("1")).thenReturn(Mono.just(customer));
+    when(creditServiceClient.getCustomerCredits("1"))
+      .thenReturn(Flux.just(credit))
+      .thenReturn(Flux.error(CallNotPermittedException.createCallNotPermittedException(
+        CircuitBreaker.ofDefaults("credit"))));
+    ReflectionTestUtils.setField(service, "summaryBudgetMs", 1000L);
+    ReflectionTestUtils.setField(service, "summaryLegShare", 0.8);
+
+    service.getConsolidatedSummary("1", EnumSet.of(SummarySection.CREDITS)).block();
+
+    StepVerifier.create(service.getConsolidatedSummary("1", EnumSet.of(SummarySection.CREDITS)))
+      .consumeNextWith(summary -> {
+        assertEquals(SectionStatusEnum.STALE, summary.getCreditsStatus());
+        assertEquals(1, summary.getCredits().size());
+      })
+        .verifyComplete();
+  }
+
+  @Test
+  void testGenerateProductReportCountsCustomersWithAggregation() {
+    when(repository.countByCustomerType(any(), any())).thenReturn(Flux.just(
+        new CustomerTypeCount("PERSONAL", 3), new CustomerTypeCount("EMPRESARIAL", 1)));
+    when(accountServiceClient.getAllAccounts()).thenReturn(Flux.empty());
+    when(creditServiceClient.getAllCredits()).thenReturn(Flux.empty());
+    when(transactionServiceClient.getTransactionTotalsByDateRange(any(), any()))
+      .thenReturn(Mono.empty());
+
+    ProductReportRequest reportRequest = new ProductReportRequest();
+    reportRequest.setStartDate(LocalDate.of(2024, 10, 1));
+    reportRequest.setEndDate(LocalDate.of(2024, 10, 31));
+    reportRequest.setSource(ReportSourceEnum.FULL_SCAN);
+
+    StepVerifier.create(service.generateProductReport(reportRequest))
+      .consumeNextWith(report -> {
+        assertEquals(4, report.getCustomerMetrics().getTotalCustomers());
+        assertEquals(3, report.getCustomerMetrics().getByType().get("PERSONAL"));
+      })
+        .verifyComplete();
+
+    verify(repository).countByCustomerType(null, Instant.parse("2024-11-01T00:00:00Z"));
+    verify(repository, never()).findAll();
+  }
+
+  @Test
+  void testSummaryReportSkipsProductFetches() {
+    when(repository.countByCustomerType(any(), any())).thenReturn(Flux.just(
+        new CustomerTypeCount("PERSONAL", 3)));
+    when(transactionServiceClient.getTransactionTotalsByDateRange(any(), any()))
+      .thenReturn(Mono.empty());
+
+    ProductReportRequest reportRequest = new ProductReportRequest();
+    reportRequest.setStartDate(LocalDate.of(2024, 10, 1));
+    reportRequest.setEndDate(LocalDate.of(2024, 10, 31));
+    reportRequest.setReportType(ReportTypeEnum.SUMMARY);
+    reportRequest.setSource(ReportSourceEnum.FULL_SCAN);
+
+    StepVerifier.create(service.generateProductReport(reportRequest))
+      .consumeNextWith(report -> {
+        assertEquals(3, report.getSummary().getTotalCustomers());
+        assertNull(report.getSummary().getTotalAccounts());
+        assertNull(report.getAccountMetrics());
+        assertNull(report.getCreditMetrics());
+      })
+        .verifyComplete();
+
+    verify(accountServiceClient, never()).getAllAccounts();
+    verify(creditServiceClient, never()).getAllCredits();
+  }
+
+  @Test
+  void testFinancialReportSkipsCustomersAndTransactions() {
+    when(accountServiceClient.getAllAccounts()).thenReturn(Flux.empty());
+    when(creditServiceClient.getAllCredits()).thenReturn(Flux.empty());
+
+    ProductReportRequest reportRequest = new ProductReportRequest();
+    reportRequest.setStartDate(LocalDate.of(2024, 10, 1));
+    reportRequest.setEndDate(LocalDate.of(2024, 10, 31));
+    reportRequest.setReportType(ReportTypeEnum.FINANCIAL);
+    reportRequest.setSource(ReportSourceEnum.FULL_SCAN);
+
+    StepVerifier.create(service.generateProductReport(reportRequest))
+      .consumeNextWith(report -> {
+        assertEquals(0, report.getAccountMetrics().getTotalAccounts());
+        assertNull(report.getCustomerMetrics());
+      })
+        .verifyComplete();
+
+    verify(repository, never()).countByCustomerType(any(), any());
+    verify(transactionServiceClient, never()).getTransactionTotalsByDateRange(any(), any());
+  }
+
+  @Test
+  void testGenerateProductReportUsesRollupsWhenAvailable() {
+    ProductReportAggregator rollups = new ProductReportAggregator();
+    rollups.acceptCustomerTypeCount(new CustomerTypeCount("PERSONAL", 7));
+    when(reportRollupStore.load(any(), any(), any())).thenReturn(Mono.just(rollups));
+
+    ProductReportRequest reportRequest = new ProductReportRequest();
+    reportRequest.setStartDate(LocalDate.of(2024, 10, 1));
+    reportRequest.setEndDate(LocalDate.of(2024, 10, 31));
+
+    StepVerifier.create(service.generateProductReport(reportRequest))
+      .consumeNextWith(report -> assertEquals(7, report.getCustomerMetrics().getTotalCustomers()))
+        .verifyComplete();
+
+    verify(repository, never()).countByCustomerType(any(), any());
+    verify(accountServiceClient, never()).getAllAccounts();
   }
 
   @Test
@@ -87,6 +398,32 @@ class CustomerServiceImplTest {
     verify(repository).findAll();
   }
 
+  @Test
+  void testFindPageReturnsNextCursorWhenMoreResults() {
+    ReflectionTestUtils.setField(service, "maxPageLimit", 500);
+    Customer second = Customer.builder().id("2").build();
+    when(repository.findByIdGreaterThan(eq("0"), any(Pageable.class)))
+      .thenReturn(Flux.just(customer, second));
+
+    StepVerifier.create(service.findPage("0", 1))
+      .consumeNextWith(page -> {
+        assertEquals(1, page.getItems().size());
+        assertEquals("1", page.getNextCursor());
+      })
+        .verifyComplete();
+  }
+
+  @Test
+  void testFindPageLastPageHasNoCursor() {
+    ReflectionTestUtils.setField(service, "defaultPageLimit", 50);
+    ReflectionTestUtils.setField(service, "maxPageLimit", 500);
+    when(repository.findAllBy(any(Pageable.class))).thenReturn(Flux.just(customer));
+
+    StepVerifier.create(service.findPage(null, null))
+      .consumeNextWith(page -> assertNull(page.getNextCursor()))
+        .verifyComplete();
+  }
+
   @Test
   void testFindByIdSuccess() {
     when(repository.findById("1")).thenReturn(Mono.just(customer));
@@ -96,6 +433,42 @@ class CustomerServiceImplTest {
         .verifyComplete();
   }
 
+  @Test
+  void testFindByIdServedFromCache() {
+    when(repository.findById("1")).thenReturn(Mono.just(customer));
+
+    StepVerifier.create(service.findById("1"))
+      .expectNext(response)
+        .verifyComplete();
+    StepVerifier.create(service.findById("1"))
+      .expectNext(response)
+        .verifyComplete();
+
+    verify(repository, times(1)).findById("1");
+  }
+
+  @Test
+  void testFindByIdInFlightDuringUpdateDoesNotCacheOldDocument() {
+    Sinks.One<Customer> inFlight = Sinks.one();
+    when(repository.findById("1")).thenReturn(inFlight.asMono(), Mono.just(customer));
+    when(repository.updateFields(eq("1"), any())).thenReturn(Mono.just(customer));
+
+    StepVerifier.create(service.findById("1"))
+      .then(() -> {
+        StepVerifier.create(service.update("1", request))
+          .expectNext(response)
+            .verifyComplete();
+        inFlight.tryEmitValue(customer);
+      })
+      .expectNext(response)
+        .verifyComplete();
+    StepVerifier.create(service.findById("1"))
+      .expectNext(response)
+        .verifyComplete();
+
+    verify(repository, times(2)).findById("1");
+  }
+
   @Test
   void testFindByIdNotFound() {
     when(repository.findById("99")).thenReturn(Mono.empty());
@@ -105,10 +478,47 @@ class CustomerServiceImplTest {
         .verify();
   }
 
+  @Test
+  void testBatchGetKeepsRequestOrderAndMarksMissing() {
+    ReflectionTestUtils.setField(service, "maxBatchKeys", 10);
+    Customer cached = Customer.builder().id("2").documentNumber("456").build();
+    customerCache.put(cached);
+    when(repository.findByIdIn(any())).thenReturn(Flux.just(customer));
+
+    CustomerBatchGetRequest batch = new CustomerBatchGetRequest();
+    batch.setKeys(Arrays.asList("99", "1", "2"));
+
+    StepVerifier.create(service.batchGet(batch))
+      .consumeNextWith(result -> {
+        assertEquals(3, result.getItems().size());
+        assertEquals("99", result.getItems().get(0).getKey());
+        assertEquals(false, result.getItems().get(0).getFound());
+        assertNull(result.getItems().get(0).getCustomer());
+        assertEquals("1", result.getItems().get(1).getKey());
+        assertEquals(true, result.getItems().get(1).getFound());
+        assertEquals(true, result.getItems().get(2).getFound());
+      })
+        .verifyComplete();
+
+    verify(repository).findByIdIn(new LinkedHashSet<>(Arrays.asList("99", "1")));
+  }
+
+  @Test
+  void testBatchGetRejectsTooManyKeys() {
+    ReflectionTestUtils.setField(service, "maxBatchKeys", 1);
+    CustomerBatchGetRequest batch = new CustomerBatchGetRequest();
+    batch.setBy(CustomerLookupKeyEnum.DOCUMENT_NUMBER);
+    batch.setKeys(Arrays.asList("123", "456"));
+
+    StepVerifier.create(service.batchGet(batch))
+      .expectError(IllegalArgumentException.class)
+        .verify();
+    verify(repository, never()).findByDocumentNumberIn(any());
+  }
+
   @Test
   void testCreateSuccess() {
-    when(repository.findByDocumentNumber(any())).thenReturn(Mono.empty());
-    when(repository.save(any())).thenReturn(Mono.just(customer));
+    when(repository.insert(any(Customer.class))).thenReturn(Mono.just(customer));
 
     StepVerifier.create(service.create(request))
       .expectNext(response)
@@ -117,26 +527,46 @@ class CustomerServiceImplTest {
 
   @Test
   void testCreateDuplicate() {
-    when(repository.findByDocumentNumber(any())).thenReturn(Mono.just(customer));
+    when(repository.insert(any(Customer.class)))
+      .thenReturn(Mono.error(new DuplicateKeyException("E11000 duplicate key")));
 
     StepVerifier.create(service.create(request))
-      .expectError(RuntimeException.class)
+      .expectError(DuplicateResourceException.class)
         .verify();
   }
 
   @Test
   void testUpdateSuccess() {
-    when(repository.findById("1")).thenReturn(Mono.just(customer));
-    when(repository.save(any())).thenReturn(Mono.just(customer));
+    when(repository.updateFields(eq("1"), any())).thenReturn(Mono.just(customer));
+
+    StepVerifier.create(service.update("1", request))
+      .expectNext(response)
+        .verifyComplete();
+  }
+
+  @Test
+  void testUpdateRecordsCustomerTypeChange() {
+    Customer previous = Customer.builder()
+        .id("1")
+        .documentType("DNI")
+        .documentNumber("123")
+        .customerType("EMPRESARIAL")
+        .createdAt(Instant.parse("2024-10-01T10:00:00Z"))
+        .build();
+    when(repository.updateFields(eq("1"), any())).thenReturn(Mono.just(previous));
 
     StepVerifier.create(service.update("1", request))
       .expectNext(response)
         .verifyComplete();
+
+    verify(reportRollupStore).recordTypeChanged(previous, "PERSONAL");
+    assertEquals(previous.getCreatedAt(), customer.getCreatedAt());
+    assertEquals("DNI", customer.getDocumentType());
   }
 
   @Test
   void testUpdateNotFound() {
-    when(repository.findById("1")).thenReturn(Mono.empty());
+    when(repository.updateFields(eq("1"), any())).thenReturn(Mono.empty());
 
     StepVerifier.create(service.update("1", request))
       .expectError(ResourceNotFoundException.class)
@@ -145,16 +575,18 @@ class CustomerServiceImplTest {
 
   @Test
   void testDeleteSuccess() {
-    when(repository.findById("1")).thenReturn(Mono.just(customer));
-    when(repository.delete(customer)).thenReturn(Mono.empty());
+    when(repository.findAndRemoveById("1")).thenReturn(Mono.just(customer));
 
     StepVerifier.create(service.delete("1"))
         .verifyComplete();
+
+    verify(customerCache, times(2)).evict("1");
+    verify(reportRollupStore).recordDeleted(customer);
   }
 
   @Test
   void testDeleteNotFound() {
-    when(repository.findById("1")).thenReturn(Mono.empty());
+    when(repository.findAndRemoveById("1")).thenReturn(Mono.empty());
 
     StepVerifier.create(service.delete("1"))
       .expectError(ResourceNotFoundException.class)
@@ -0,0 +1,183 @@
+package com.bank.customer.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bank.customer.exception.ResourceNotFoundException;
+import com.bank.customer.mapper.ReportJobMapper;
+import com.bank.customer.model.ProductReportRequest;
+import com.bank.customer.model.ProductReportResponse;
+import com.bank.customer.model.ReportJob;
+import com.bank.customer.model.ReportJobResponse;
+import com.bank.customer.model.ReportJobStatusEnum;
+import com.bank.customer.repository.ReportJobRepository;
+import com.bank.customer.service.CustomerService;
+import com.bank.customer.service.report.ReportProgress;
+import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DuplicateKeyException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ReportJobServiceImplTest {
+
+  @Mock
+  private ReportJobRepository jobRepository;
+
+  @Mock
+  private CustomerService customerService;
+
+  @Mock
+  private ReportJobMapper mapper;
+
+  private ReportJobServiceImpl service;
+  private ProductReportRequest request;
+
+  @BeforeEach
+  void setup() {
+    MockitoAnnotations.openMocks(this);
+    service = new ReportJobServiceImpl(jobRepository, customerService, mapper, 1, 1);
+
+    request = new ProductReportRequest();
+    request.setStartDate(LocalDate.of(2024, 10, 1));
+    request.setEndDate(LocalDate.of(2024, 10, 31));
+
+    when(mapper.toResponse(any())).thenAnswer(invocation -> {
+      ReportJob job = invocation.getArgument(0);
+      ReportJobResponse response = new ReportJobResponse();
+      response.setId(job.getId());
+      response.setStatus(ReportJobStatusEnum.fromValue(job.getStatus()));
+      return response;
+    });
+    when(jobRepository.markRunning(anyString())).thenReturn(Mono.just(true));
+    when(jobRepository.heartbeat(any())).thenReturn(Mono.empty());
+    when(jobRepository.failStale(any(), any())).thenReturn(Mono.just(0L));
+    when(jobRepository.updateProgress(anyString(), anyInt())).thenReturn(Mono.empty());
+    when(jobRepository.complete(anyString(), any())).thenReturn(Mono.empty());
+    when(jobRepository.fail(anyString(), any())).thenReturn(Mono.empty());
+  }
+
+  @AfterEach
+  void tearDown() {
+    service.destroy();
+  }
+
+  @Test
+  void testSubmitRunsJobAndPersistsResult() {
+    ProductReportResponse report = new ProductReportResponse();
+    when(jobRepository.insert(any(ReportJob.class))).thenAnswer(invocation -> {
+      ReportJob job = invocation.getArgument(0);
+      job.setId("job-1");
+      return Mono.just(job);
+    });
+    when(customerService.generateProductReport(eq(request), any())).thenAnswer(invocation -> {
+      invocation.getArgument(1, ReportProgress.class).update(60);
+      return Mono.just(report);
+    });
+
+    StepVerifier.create(service.submit(request))
+      .consumeNextWith(job -> {
+        assertEquals("job-1", job.getId());
+        assertEquals(ReportJobStatusEnum.QUEUED, job.getStatus());
+      })
+      .verifyComplete();
+
+    verify(jobRepository, timeout(1000)).markRunning("job-1");
+    verify(jobRepository, timeout(1000)).updateProgress("job-1", 60);
+    verify(jobRepository, timeout(1000)).complete("job-1", report);
+  }
+
+  @Test
+  void testSubmitReturnsActiveJobForIdenticalRequest() {
+    ReportJob active = ReportJob.builder().id("job-1").status(ReportJob.RUNNING).build();
+    when(jobRepository.insert(any(ReportJob.class)))
+      .thenReturn(Mono.error(new DuplicateKeyException("E11000")));
+    when(jobRepository.findByActiveKey(anyString()))
+      .thenReturn(Mono.just(active));
+
+    StepVerifier.create(service.submit(request))
+      .consumeNextWith(job -> {
+        assertEquals("job-1", job.getId());
+        assertEquals(ReportJobStatusEnum.RUNNING, job.getStatus());
+      })
+      .verifyComplete();
+
+    verify(customerService, never()).generateProductReport(any(), any());
+  }
+
+  @Test
+  void testFailedReportMarksJobFailed() {
+    when(jobRepository.insert(any(ReportJob.class))).thenAnswer(invocation -> {
+      ReportJob job = invocation.getArgument(0);
+      job.setId("job-2");
+      return Mono.just(job);
+    });
+    when(customerService.generateProductReport(eq(request), any()))
+      .thenReturn(Mono.error(new IllegalStateException("boom")));
+
+    StepVerifier.create(service.submit(request))
+      .expectNextCount(1)
+      .verifyComplete();
+
+    verify(jobRepository, timeout(1000)).fail("job-2", "boom");
+  }
+
+  @Test
+  void testJobNoLongerQueuedIsSkipped() {
+    when(jobRepository.insert(any(ReportJob.class))).thenAnswer(invocation -> {
+      ReportJob job = invocation.getArgument(0);
+      job.setId("job-3");
+      return Mono.just(job);
+    });
+    when(jobRepository.markRunning("job-3")).thenReturn(Mono.just(false));
+
+    StepVerifier.create(service.submit(request))
+      .expectNextCount(1)
+      .verifyComplete();
+
+    verify(jobRepository, timeout(1000)).markRunning("job-3");
+    verify(customerService, never()).generateProductReport(any(), any());
+  }
+
+  @Test
+  void testRunningJobIsKeptAliveAndNotFailedAsStale() {
+    when(jobRepository.insert(any(ReportJob.class))).thenAnswer(invocation -> {
+      ReportJob job = invocation.getArgument(0);
+      job.setId("job-4");
+      return Mono.just(job);
+    });
+    when(customerService.generateProductReport(eq(request), any())).thenReturn(Mono.never());
+
+    StepVerifier.create(service.submit(request))
+      .expectNextCount(1)
+      .verifyComplete();
+    verify(jobRepository, timeout(1000)).markRunning("job-4");
+
+    service.heartbeatJobs();
+    service.failStaleJobs();
+
+    verify(jobRepository).heartbeat(argThat(ids -> ids.contains("job-4")));
+    verify(jobRepository).failStale(any(), argThat(ids -> ids.contains("job-4")));
+  }
+
+  @Test
+  void testFindByIdNotFound() {
+    when(jobRepository.findById("missing")).thenReturn(Mono.empty());
+
+    StepVerifier.create(service.findById("missing"))
+      .expectError(ResourceNotFoundException.class)
+      .verify();
+  }
+}
@@ -0,0 +1,27 @@
+package com.bank.customer.service.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class LatencyBudgetTest {
+
+  @Test
+  void testLegTimeoutIsShareOfRemaining() {
+    LatencyBudget budget = LatencyBudget.start(Duration.ofSeconds(10), 0.5);
+
+    Duration timeout = budget.legTimeout();
+
+    assertTrue(timeout.compareTo(Duration.ofSeconds(5)) <= 0);
+    assertTrue(timeout.compareTo(Duration.ofSeconds(4)) > 0);
+  }
+
+  @Test
+  void testExpiredBudgetGivesZeroTimeout() {
+    LatencyBudget budget = LatencyBudget.start(Duration.ZERO, 0.8);
+
+    assertEquals(Duration.ZERO, budget.legTimeout());
+  }
+}
@@ -0,0 +1,86 @@
+package com.bank.customer.service.report;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bank.customer.model.Customer;
+import com.bank.customer.model.CustomerMonthlySummary;
+import com.bank.customer.model.SectionStatusEnum;
+import com.bank.customer.repository.CustomerRepository;
+import com.bank.customer.service.CustomerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class MonthlySummaryGeneratorTest {
+
+  @Mock
+  private CustomerRepository customerRepository;
+
+  @Mock
+  private CustomerService customerService;
+
+  @Mock
+  private MonthlySummaryStore store;
+
+  @InjectMocks
+  private MonthlySummaryGenerator generator;
+
+  private CustomerMonthlySummary summary(SectionStatusEnum accountsStatus) {
+    CustomerMonthlySummary summary = new CustomerMonthlySummary();
+    summary.setAccountsStatus(accountsStatus);
+    summary.setCreditsStatus(SectionStatusEnum.OK);
+    return summary;
+  }
+
+  @BeforeEach
+  void setup() {
+    MockitoAnnotations.openMocks(this);
+    ReflectionTestUtils.setField(generator, "parallelism", 2);
+    when(store.closePeriodsBefore(any())).thenReturn(Mono.just(0L));
+    when(store.save(any(), any(), any())).thenReturn(Mono.just(true));
+    when(customerRepository.findAll()).thenReturn(Flux.just(
+        Customer.builder().id("1").build(),
+        Customer.builder().id("2").build(),
+        Customer.builder().id("3").build()));
+  }
+
+  @Test
+  void testGenerateAllStoresOnlyCompleteSummaries() {
+    when(customerService.computeMonthlySummary("1"))
+      .thenReturn(Mono.just(summary(SectionStatusEnum.OK)));
+    when(customerService.computeMonthlySummary("2"))
+      .thenReturn(Mono.just(summary(SectionStatusEnum.TIMEOUT)));
+    when(customerService.computeMonthlySummary("3"))
+      .thenReturn(Mono.error(new IllegalStateException("downstream")));
+
+    StepVerifier.create(generator.generateAll())
+      .expectNext(1L)
+        .verifyComplete();
+
+    verify(store).closePeriodsBefore(MonthlySummaryStore.currentPeriod());
+    verify(store).save(eq("1"), eq(MonthlySummaryStore.currentPeriod()), any());
+    verify(store, never()).save(eq("2"), any(), any());
+    verify(store, never()).save(eq("3"), any(), any());
+  }
+
+  @Test
+  void testGenerateAllSkipsClosedPeriod() {
+    when(customerService.computeMonthlySummary(any()))
+      .thenReturn(Mono.just(summary(SectionStatusEnum.OK)));
+    when(store.save(any(), any(), any())).thenReturn(Mono.just(false));
+
+    StepVerifier.create(generator.generateAll())
+      .expectNext(0L)
+        .verifyComplete();
+  }
+}
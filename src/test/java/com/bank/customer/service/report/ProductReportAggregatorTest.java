@@ -0,0 +1,70 @@
+package com.bank.customer.service.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.bank.customer.model.CustomerTypeCount;
+import com.bank.customer.model.response.AccountResponse;
+import com.bank.customer.model.response.CreditResponse;
+import com.bank.customer.model.response.TransactionTotalsResponse;
+import org.junit.jupiter.api.Test;
+
+class ProductReportAggregatorTest {
+
+  private AccountResponse account(String customerId, String type, double balance) {
+    AccountResponse account = new AccountResponse();
+    account.setCustomerId(customerId);
+    account.setAccountType(type);
+    account.setBalance(balance);
+    return account;
+  }
+
+  private CreditResponse credit(String customerId, String type, double outstanding, double rate) {
+    CreditResponse credit = new CreditResponse();
+    credit.setCustomerId(customerId);
+    credit.setCreditType(type);
+    credit.setOutstandingBalance(outstanding);
+    credit.setInterestRate(rate);
+    return credit;
+  }
+
+  @Test
+  void testAggregatesAllSources() {
+    ProductReportAggregator aggregator = new ProductReportAggregator();
+
+    aggregator.acceptCustomerTypeCount(new CustomerTypeCount("PERSONAL", 1));
+    aggregator.acceptCustomerTypeCount(new CustomerTypeCount("EMPRESARIAL", 1));
+    aggregator.acceptAccount(account("1", "AHORRO", 100.0));
+    aggregator.acceptAccount(account("1", "CORRIENTE", 300.0));
+    aggregator.acceptAccount(account("9", "AHORRO", 200.0));
+    aggregator.acceptCredit(credit("2", "PRESTAMO_PERSONAL", 1000.0, 10.0));
+    aggregator.acceptCredit(credit("2", "TARJETA_CREDITO", 500.0, 20.0));
+    TransactionTotalsResponse totals = new TransactionTotalsResponse();
+    totals.setTotalCount(1);
+    totals.getCountByType().put("DEPOSITO", 1L);
+    aggregator.acceptTransactionTotals(totals);
+
+    assertEquals(2, aggregator.getCustomerCount());
+    assertEquals(1, aggregator.getCustomersByType().get("PERSONAL"));
+    assertEquals(3, aggregator.getAccountCount());
+    assertEquals(600.0, aggregator.getAccountBalanceSum());
+    assertEquals(200.0, aggregator.getAverageBalance());
+    assertEquals(2, aggregator.getAccountsByType().get("AHORRO"));
+    assertEquals(2, aggregator.getCreditCount());
+    assertEquals(1500.0, aggregator.getOutstandingSum());
+    assertEquals(15.0, aggregator.getAverageInterestRate());
+    assertEquals(1, aggregator.getTransactionCount());
+    assertEquals(1, aggregator.getTransactionsByType().get("DEPOSITO"));
+    // Aproximado: cuenta todos los productos, (3 + 2) / 2
+    assertEquals(2.5, aggregator.getAverageProductsPerCustomer());
+  }
+
+  @Test
+  void testEmptyAggregatorAverages() {
+    ProductReportAggregator aggregator = new ProductReportAggregator();
+
+    assertEquals(0.0, aggregator.getAverageBalance());
+    assertEquals(0.0, aggregator.getAverageInterestRate());
+    assertEquals(0.0, aggregator.getAverageProductsPerCustomer());
+    assertEquals(0, aggregator.getCustomersByType().size());
+  }
+}
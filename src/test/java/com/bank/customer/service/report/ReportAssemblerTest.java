@@ -0,0 +1,68 @@
+package com.bank.customer.service.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.bank.customer.model.ConsolidatedSummary;
+import com.bank.customer.model.Customer;
+import com.bank.customer.model.response.AccountResponse;
+import com.bank.customer.model.response.CreditResponse;
+import com.bank.customer.model.response.TransactionResponse;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+class ReportAssemblerTest {
+
+  private final ReportAssembler reportAssembler = new ReportAssembler();
+
+  private AccountResponse account(String status, double balance) {
+    AccountResponse account = new AccountResponse();
+    account.setId("a-" + balance);
+    account.setAccountType("AHORRO");
+    account.setStatus(status);
+    account.setBalance(balance);
+    return account;
+  }
+
+  private CreditResponse loan(double outstanding) {
+    CreditResponse credit = new CreditResponse();
+    credit.setId("c-" + outstanding);
+    credit.setCreditType("PRESTAMO_PERSONAL");
+    credit.setStatus("ACTIVO");
+    credit.setOutstandingBalance(outstanding);
+    return credit;
+  }
+
+  @Test
+  void testCalculateTotalBalanceOnlyActiveProducts() {
+    Double total = reportAssembler.calculateTotalBalance(
+        Arrays.asList(account("ACTIVO", 500.0), account("INACTIVO", 1000.0)),
+        Collections.singletonList(loan(200.0)));
+
+    assertEquals(300.0, total);
+  }
+
+  @Test
+  void testBuildConsolidatedSummary() {
+    Customer customer = Customer.builder()
+        .id("1")
+        .documentType("DNI")
+        .customerType("PERSONAL")
+        .build();
+    TransactionResponse transaction = new TransactionResponse();
+    transaction.setId("t1");
+    transaction.setAccountId("a1");
+
+    ConsolidatedSummary summary = reportAssembler.buildConsolidatedSummary(customer,
+        Arrays.asList(account("ACTIVO", 500.0), account("INACTIVO", 1000.0)),
+        Collections.singletonList(loan(200.0)),
+        Collections.singletonList(transaction));
+
+    assertEquals(300.0, summary.getTotalBalance());
+    assertEquals(2, summary.getProductsOverview().getTotalAccounts());
+    assertEquals(1, summary.getProductsOverview().getActiveAccounts());
+    assertEquals(1, summary.getProductsOverview().getActiveCredits());
+    assertEquals(2, summary.getAccounts().size());
+    assertEquals("ACCOUNT", summary.getRecentTransactions().get(0).getProductType());
+  }
+}
@@ -0,0 +1,51 @@
+package com.bank.customer.service.report;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+class ReportExecutorTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ReportExecutor reportExecutor = new ReportExecutor(1, 1, meterRegistry);
+
+  @AfterEach
+  void tearDown() {
+    reportExecutor.destroy();
+  }
+
+  @Test
+  void testAssembleRunsOnDedicatedThread() {
+    StepVerifier.create(reportExecutor.assemble(() -> Thread.currentThread().getName()))
+      .expectNextMatches(name -> name.startsWith("report-assembly-"))
+        .verifyComplete();
+
+    assertTrue(meterRegistry.find("executor.completed").tag("name", "report.assembly")
+        .functionCounter() != null);
+  }
+
+  @Test
+  void testRejectsWhenQueueIsFull() throws InterruptedException {
+    CountDownLatch running = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    reportExecutor.assemble(() -> {
+      running.countDown();
+      release.await();
+      return "first";
+    }).subscribe();
+    running.await();
+    reportExecutor.assemble(() -> "queued").subscribe();
+
+    StepVerifier.create(reportExecutor.assemble(() -> "rejected"))
+      .expectError(RejectedExecutionException.class)
+        .verify();
+
+    release.countDown();
+  }
+}
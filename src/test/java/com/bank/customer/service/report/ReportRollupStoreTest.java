@@ -0,0 +1,311 @@
+package com.bank.customer.service.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bank.customer.client.AccountServiceClient;
+import com.bank.customer.client.CreditServiceClient;
+import com.bank.customer.client.TransactionServiceClient;
+import com.bank.customer.model.Customer;
+import com.bank.customer.model.CustomerDailyCount;
+import com.bank.customer.model.ReportRollup;
+import com.bank.customer.model.response.TransactionTotalsResponse;
+import com.bank.customer.repository.CustomerRepository;
+import com.bank.customer.repository.ReportRollupRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ReportRollupStoreTest {
+
+  @Mock
+  private ReportRollupRepository rollupRepository;
+
+  @Mock
+  private CustomerRepository customerRepository;
+
+  @Mock
+  private AccountServiceClient accountServiceClient;
+
+  @Mock
+  private CreditServiceClient creditServiceClient;
+
+  @Mock
+  private TransactionServiceClient transactionServiceClient;
+
+  @InjectMocks
+  private ReportRollupStore store;
+
+  @BeforeEach
+  void setup() {
+    MockitoAnnotations.openMocks(this);
+    ReflectionTestUtils.setField(store, "enabled", true);
+    ReflectionTestUtils.setField(store, "maxSnapshotLagDays", 1L);
+    when(rollupRepository.incrementCustomers(any(), any(), anyLong()))
+      .thenReturn(Mono.empty());
+    when(rollupRepository.findCustomersRebuiltAt()).thenReturn(Mono.just(Instant.now()));
+  }
+
+  private Customer customer(String type, String createdAt) {
+    return Customer.builder().id(type).customerType(type)
+      .createdAt(Instant.parse(createdAt)).build();
+  }
+
+  @Test
+  void testRecordCreatedGroupsByDayAndType() {
+    StepVerifier.create(store.recordCreated(Arrays.asList(
+        customer("PERSONAL", "2024-10-01T10:00:00Z"),
+        customer("PERSONAL", "2024-10-01T23:00:00Z"),
+        customer("EMPRESARIAL", "2024-10-02T01:00:00Z"))))
+        .verifyComplete();
+
+    verify(rollupRepository).incrementCustomers("2024-10-01", "PERSONAL", 2L);
+    verify(rollupRepository).incrementCustomers("2024-10-02", "EMPRESARIAL", 1L);
+  }
+
+  @Test
+  void testRecordDeletedDecrementsCreationDay() {
+    StepVerifier.create(store.recordDeleted(customer("PERSONAL", "2024-10-01T10:00:00Z")))
+        .verifyComplete();
+
+    verify(rollupRepository).incrementCustomers("2024-10-01", "PERSONAL", -1L);
+  }
+
+  @Test
+  void testRecordTypeChangedMovesCountOnCreationDay() {
+    StepVerifier.create(store.recordTypeChanged(
+        customer("PERSONAL", "2024-10-01T10:00:00Z"), "EMPRESARIAL"))
+        .verifyComplete();
+
+    verify(rollupRepository).incrementCustomers("2024-10-01", "PERSONAL", -1L);
+    verify(rollupRepository).incrementCustomers("2024-10-01", "EMPRESARIAL", 1L);
+  }
+
+  @Test
+  void testRecordTypeChangedIgnoresSameType() {
+    StepVerifier.create(store.recordTypeChanged(
+        customer("PERSONAL", "2024-10-01T10:00:00Z"), "PERSONAL"))
+        .verifyComplete();
+
+    verify(rollupRepository, never()).incrementCustomers(any(), any(), anyLong());
+  }
+
+  @Test
+  void testLoadSumsDailyBucketsAndFetchesDaysWithoutTransactionTotals() {
+    ReportRollup snapshot = ReportRollup.builder()
+        .day("2024-10-30")
+        .accountsByType(Map.of("AHORRO", 3L))
+        .accountBalanceSum(300.0)
+        .creditsByType(Map.of("TARJETA_CREDITO", 1L))
+        .outstandingSum(50.0)
+        .interestRateSum(20.0)
+        .snapshotAt(Instant.now())
+        .build();
+    ReportRollup earlier = ReportRollup.builder()
+        .day("2024-09-15")
+        .customersByType(Map.of("PERSONAL", 4L))
+        .build();
+    ReportRollup inPeriod = ReportRollup.builder()
+        .day("2024-10-05")
+        .customersByType(Map.of("PERSONAL", 1L))
+        .transactionCount(10L)
+        .transactionsByType(Map.of("DEPOSITO", 10L))
+        .build();
+    TransactionTotalsResponse live = new TransactionTotalsResponse();
+    live.setTotalCount(2);
+    live.getCountByType().put("DEPOSITO", 2L);
+
+    when(rollupRepository.findLatestSnapshot("2024-10-31")).thenReturn(Mono.just(snapshot));
+    when(rollupRepository.findDays(null, "2024-10-31"))
+      .thenReturn(Flux.just(earlier, inPeriod, snapshot));
+    when(rollupRepository.findDays("2024-10-01", "2024-10-31"))
+      .thenReturn(Flux.just(inPeriod, snapshot));
+    when(transactionServiceClient.getTransactionTotalsByDateRange("2024-10-01", "2024-10-04"))
+      .thenReturn(Mono.empty());
+    when(transactionServiceClient.getTransactionTotalsByDateRange("2024-10-06", "2024-10-31"))
+      .thenReturn(Mono.just(live));
+
+    StepVerifier.create(store.load(LocalDate.of(2024, 10, 1), LocalDate.of(2024, 10, 31),
+        ReportPlan.DETAILED))
+      .consumeNextWith(aggregator -> {
+        assertEquals(5, aggregator.getCustomerCount());
+        assertEquals(3, aggregator.getAccountCount());
+        assertEquals(100.0, aggregator.getAverageBalance());
+        assertEquals(1, aggregator.getCreditCount());
+        assertEquals(12, aggregator.getTransactionCount());
+        assertEquals(12, aggregator.getTransactionsByType().get("DEPOSITO"));
+      })
+        .verifyComplete();
+  }
+
+  @Test
+  void testLoadFetchesMissingDayInsideIngestedRange() {
+    ReportRollup snapshot = ReportRollup.builder()
+        .day("2024-10-04")
+        .transactionCount(1L)
+        .snapshotAt(Instant.now())
+        .build();
+    when(rollupRepository.findLatestSnapshot("2024-10-04")).thenReturn(Mono.just(snapshot));
+    when(rollupRepository.findDays(null, "2024-10-04")).thenReturn(Flux.empty());
+    when(rollupRepository.findDays("2024-10-01", "2024-10-04")).thenReturn(Flux.just(
+        ReportRollup.builder().day("2024-10-01").transactionCount(1L).build(),
+        ReportRollup.builder().day("2024-10-02").transactionCount(1L).build(),
+        snapshot));
+    when(transactionServiceClient.getTransactionTotalsByDateRange("2024-10-03", "2024-10-03"))
+      .thenReturn(Mono.just(new TransactionTotalsResponse(7, Collections.emptyMap(),
+        Collections.emptyMap())));
+
+    StepVerifier.create(store.load(LocalDate.of(2024, 10, 1), LocalDate.of(2024, 10, 4),
+        ReportPlan.SUMMARY))
+      .consumeNextWith(aggregator -> assertEquals(10, aggregator.getTransactionCount()))
+        .verifyComplete();
+  }
+
+  @Test
+  void testLoadFallsBackWhenTransactionRollupsHaveTooManyGaps() {
+    ReportRollup snapshot = ReportRollup.builder()
+        .day("2024-10-12")
+        .transactionCount(1L)
+        .snapshotAt(Instant.now())
+        .build();
+    when(rollupRepository.findLatestSnapshot("2024-10-12")).thenReturn(Mono.just(snapshot));
+    when(rollupRepository.findDays(null, "2024-10-12")).thenReturn(Flux.empty());
+    when(rollupRepository.findDays("2024-10-01", "2024-10-12")).thenReturn(Flux.range(1, 6)
+        .map(day -> ReportRollup.builder()
+          .day(LocalDate.of(2024, 10, day * 2).toString())
+          .transactionCount(1L)
+          .build()));
+
+    StepVerifier.create(store.load(LocalDate.of(2024, 10, 1), LocalDate.of(2024, 10, 12),
+        ReportPlan.SUMMARY))
+        .verifyComplete();
+    verify(transactionServiceClient, never()).getTransactionTotalsByDateRange(any(), any());
+  }
+
+  @Test
+  void testLoadReadsOnlyPlanSources() {
+    ReportRollup snapshot = ReportRollup.builder()
+        .day("2024-10-31")
+        .accountsByType(Map.of("AHORRO", 3L))
+        .accountBalanceSum(300.0)
+        .creditsByType(Map.of("TARJETA_CREDITO", 1L))
+        .snapshotAt(Instant.now())
+        .build();
+    when(rollupRepository.findLatestSnapshot("2024-10-31")).thenReturn(Mono.just(snapshot));
+
+    StepVerifier.create(store.load(LocalDate.of(2024, 10, 1), LocalDate.of(2024, 10, 31),
+        ReportPlan.FINANCIAL))
+      .consumeNextWith(aggregator -> {
+        assertEquals(3, aggregator.getAccountCount());
+        assertEquals(1, aggregator.getCreditCount());
+        assertEquals(0, aggregator.getCustomerCount());
+      })
+        .verifyComplete();
+    verify(rollupRepository, never()).findDays(any(), any());
+  }
+
+  @Test
+  void testLoadIsEmptyWithoutSnapshot() {
+    when(rollupRepository.findLatestSnapshot(any())).thenReturn(Mono.empty());
+
+    StepVerifier.create(store.load(LocalDate.of(2024, 10, 1), LocalDate.of(2024, 10, 31),
+        ReportPlan.DETAILED))
+        .verifyComplete();
+    verify(rollupRepository, never()).findDays(any(), any());
+  }
+
+  @Test
+  void testLoadFallsBackWhenSnapshotIsStale() {
+    ReportRollup snapshot = ReportRollup.builder()
+        .day("2024-10-20")
+        .snapshotAt(Instant.now())
+        .build();
+    when(rollupRepository.findLatestSnapshot("2024-10-31")).thenReturn(Mono.just(snapshot));
+
+    StepVerifier.create(store.load(LocalDate.of(2024, 10, 1), LocalDate.of(2024, 10, 31),
+        ReportPlan.DETAILED))
+        .verifyComplete();
+    verify(rollupRepository, never()).findDays(any(), any());
+  }
+
+  @Test
+  void testLoadFallsBackUntilCustomersAreRebuilt() {
+    when(rollupRepository.findCustomersRebuiltAt()).thenReturn(Mono.empty());
+
+    StepVerifier.create(store.load(LocalDate.of(2024, 10, 1), LocalDate.of(2024, 10, 31),
+        ReportPlan.DETAILED))
+        .verifyComplete();
+    verify(rollupRepository, never()).findLatestSnapshot(any());
+  }
+
+  @Test
+  void testBackfillRebuildsCustomersUntilMarked() {
+    when(rollupRepository.findCustomersRebuiltAt()).thenReturn(Mono.empty());
+    when(customerRepository.countByCreatedDayAndType()).thenReturn(Flux.just(
+        new CustomerDailyCount("2024-10-01", "PERSONAL", 2),
+        new CustomerDailyCount("2024-10-01", "EMPRESARIAL", 1)));
+    when(rollupRepository.replaceCustomers(any(), any())).thenReturn(Mono.empty());
+    when(rollupRepository.clearCustomersExcept(any())).thenReturn(Mono.empty());
+    when(rollupRepository.markCustomersRebuilt(any())).thenReturn(Mono.empty());
+
+    store.backfillIfNeeded();
+
+    verify(rollupRepository).replaceCustomers("2024-10-01",
+        Map.of("PERSONAL", 2L, "EMPRESARIAL", 1L));
+    verify(rollupRepository).clearCustomersExcept(Set.of("2024-10-01"));
+    verify(rollupRepository).markCustomersRebuilt(any());
+  }
+
+  @Test
+  void testBackfillSkippedOnceMarked() {
+    store.backfillIfNeeded();
+
+    verify(customerRepository, never()).countByCreatedDayAndType();
+  }
+
+  @Test
+  void testFailedRebuildIsNotMarked() {
+    when(customerRepository.countByCreatedDayAndType())
+      .thenReturn(Flux.error(new RuntimeException("boom")));
+
+    StepVerifier.create(store.rebuildCustomers())
+        .verifyError(RuntimeException.class);
+    verify(rollupRepository, never()).markCustomersRebuilt(any());
+  }
+
+  @Test
+  void testIngestSnapshotStoresProductsAndDailyTransactions() {
+    when(accountServiceClient.getAllAccounts()).thenReturn(Flux.empty());
+    when(creditServiceClient.getAllCredits()).thenReturn(Flux.empty());
+    when(transactionServiceClient.getTransactionTotalsByDateRange("2024-10-01", "2024-10-01"))
+      .thenReturn(Mono.just(new TransactionTotalsResponse(4, Collections.emptyMap(),
+        Collections.emptyMap())));
+    when(rollupRepository.saveSnapshot(any())).thenReturn(Mono.empty());
+
+    StepVerifier.create(store.ingestSnapshot(LocalDate.of(2024, 10, 1)))
+        .verifyComplete();
+
+    verify(rollupRepository).saveSnapshot(argThat(snapshot ->
+        "2024-10-01".equals(snapshot.getDay())
+          && snapshot.getTransactionCount() == 4L
+          && snapshot.getAccountsByType().isEmpty()
+          && snapshot.getSnapshotAt() != null));
+  }
+}
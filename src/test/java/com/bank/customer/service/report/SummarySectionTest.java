@@ -0,0 +1,38 @@
+package com.bank.customer.service.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class SummarySectionTest {
+
+  @Test
+  void testEmptyFieldsSelectAllSections() {
+    assertEquals(EnumSet.allOf(SummarySection.class), SummarySection.fromFields(null));
+    assertEquals(EnumSet.allOf(SummarySection.class),
+        SummarySection.fromFields(Collections.emptyList()));
+  }
+
+  @Test
+  void testTotalBalanceNeedsAccountsAndCredits() {
+    Set<SummarySection> sections = SummarySection.fromFields(Arrays.asList("totalBalance"));
+
+    assertEquals(EnumSet.of(SummarySection.TOTAL_BALANCE), sections);
+    assertTrue(SummarySection.needsAccounts(sections));
+    assertTrue(SummarySection.needsCredits(sections));
+    assertFalse(SummarySection.needsTransactions(sections));
+  }
+
+  @Test
+  void testUnknownFieldThrows() {
+    assertThrows(IllegalArgumentException.class,
+        () -> SummarySection.fromFields(Arrays.asList("balances")));
+  }
+}